@@ -11,6 +11,10 @@ public class BookingService {
        this.apiRequestManager=new APIRequestManager(baseURI);
     }
 
+    public BookingService(String environment, String baseURI){
+       this.apiRequestManager=new APIRequestManager(environment, baseURI);
+    }
+
     public Response getToken(String path, String reqBody) {
 
         return apiRequestManager.post(path, apiRequestManager.generateHeaders(POST), reqBody);
@@ -1,6 +1,11 @@
 package org.sentinel.tests.base;
 
+import io.restassured.response.Response;
 import org.sentinel.tests.api.collection.restfulbooker.BookingService;
+import org.sentinel.tests.config.api.APIExecutor;
+import org.sentinel.tests.config.api.EnvironmentFanOut;
+import org.sentinel.tests.config.api.EnvironmentResponse;
+import org.sentinel.tests.constants.Config;
 import org.sentinel.tests.utils.ExcelUtil;
 import org.sentinel.tests.utils.FileUtil;
 import org.sentinel.tests.utils.insights.PDFReport;
@@ -14,11 +19,18 @@ import org.testng.annotations.BeforeSuite;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class BaseAPIService {
     protected AssertLog assertLog = new AssertLog();
     protected String baseURI;
     protected BookingService bookingService;
+    protected Map<String, String> environments;
+    protected Map<String, BookingService> environmentServices;
 
     @BeforeSuite(alwaysRun = true)
     public void cleanUpPreviousData() {
@@ -39,16 +51,41 @@ public class BaseAPIService {
     @BeforeClass
     public void setUpEnv(ITestContext context) {
         ReadTestNG.loadParameters(context);
-        baseURI = ReadTestNG.getParameter("baseURI");
+        baseURI = ReadTestNG.getParameter(Config.BASE_URI);
+        environments = EnvironmentFanOut.parseEnvironments(ReadTestNG.getParameter(Config.BASE_URIS), baseURI);
     }
 
     @BeforeMethod
     public void setUpService() {
         bookingService = new BookingService(baseURI);
+        environmentServices = new LinkedHashMap<>();
+        environments.forEach((environment, uri) -> environmentServices.put(environment, new BookingService(environment, uri)));
+    }
+
+    /*
+     * Sends the same call to every configured environment concurrently.
+     */
+    protected List<EnvironmentResponse> acrossEnvironments(Function<BookingService, Response> call) {
+        return EnvironmentFanOut.run(environmentServices, call);
+    }
+
+    /*
+     * Asserts the condition once per environment. Messages are prefixed with the environment label.
+     */
+    protected void assertEachEnvironment(List<EnvironmentResponse> responses, Predicate<Response> condition, String passMsg, String failMsg) {
+        for (EnvironmentResponse result : responses) {
+            String label = "[" + result.environment() + "] ";
+            if (result.hasResponse()) {
+                assertLog.assertTrue(condition.test(result.response()), label + passMsg, label + failMsg);
+            } else {
+                assertLog.assertTrue(false, label + passMsg, label + failMsg + " Error: " + result.error().getMessage());
+            }
+        }
     }
 
     @AfterSuite(alwaysRun = true)
     public void generateReport() {
+        APIExecutor.shutdownSharedClients();
         PDFReport.generatePDF();
     }
 }
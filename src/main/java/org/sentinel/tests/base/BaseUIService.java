@@ -4,17 +4,23 @@
  */
 package org.sentinel.tests.base;
 
-import io.qameta.allure.Description;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.sentinel.tests.ui.pom.MyAccountPage;
+import org.sentinel.tests.ui.utils.LocatorProfiler;
+import org.sentinel.tests.ui.utils.LoggedInAs;
+import org.sentinel.tests.ui.utils.PageRegistry;
+import org.sentinel.tests.ui.utils.SessionStateCache;
 import org.sentinel.tests.utils.insights.AllureEnvironmentSetup;
-import org.sentinel.tests.utils.insights.CaptureAttachment;
-import org.sentinel.tests.utils.insights.GetCapturedSession;
+import org.sentinel.tests.utils.insights.VideoQueue;
 import org.sentinel.tests.utils.log.LoggerUtil;
 import org.sentinel.tests.utils.testng.AssertLog;
 import org.sentinel.tests.utils.insights.PDFReport;
 import org.sentinel.tests.utils.testng.ReadTestNG;
+import org.sentinel.tests.config.ui.BrowserContext;
+import org.sentinel.tests.config.ui.LeanBrowserProfile;
 import org.sentinel.tests.config.ui.WebDriverManager;
+import org.sentinel.tests.config.ui.WebDriverPool;
 import org.sentinel.tests.ui.pom.LoginPage;
 import org.sentinel.tests.utils.ExcelUtil;
 import org.sentinel.tests.utils.FileUtil;
@@ -33,14 +39,14 @@ import java.time.Duration;
  * Key features:
  * - WebDriver setup and management
  * - Test reporting (Allure, Excel, PDF)
- * - Page object initialization
+ * - Lazy page object creation through a {@link PageRegistry}
  * - Test environment cleanup
  * - Video capture for test sessions
  * The class uses TestNG annotations to manage the test lifecycle:
  * - @BeforeSuite: Cleans up previous test reports
  * - @BeforeClass: Sets up test environment and parameters
- * - @BeforeMethod: Initializes WebDriver and page objects
- * - @AfterMethod: Closes WebDriver and captures test video
+ * - @BeforeMethod: Initializes WebDriver and the page registry
+ * - @AfterMethod: Closes WebDriver, returns it to the pool or closes its tab, and captures test video
  * - @AfterClass: Cleanup operations
  * - @AfterSuite: Generates test reports
  *
@@ -53,13 +59,12 @@ import java.time.Duration;
  * @see PDFReport
  */
 public class BaseUIService {
-    private static String testName;
+    private static final ThreadLocal<String> testName = new ThreadLocal<>();
     protected WebDriver driver;
     protected AssertLog assertLog = new AssertLog();
     protected String appURL;
 
-    protected LoginPage loginPage;
-    protected MyAccountPage myAccountPage;
+    protected PageRegistry pages;
 
 
     @BeforeSuite(alwaysRun = true)
@@ -87,35 +92,74 @@ public class BaseUIService {
     }
 
     /**
-     * In this method we create all object of page factory.
+     * In this method we create the page registry; page objects are created on first use.
+     * Test methods annotated with {@link LoggedInAs} start logged in through the {@link SessionStateCache}.
      */
     @BeforeMethod(alwaysRun = true)
     public void tearUp(ITestContext context, Method method) {
-        testName = method.getName();
-        System.out.println(">>>>>>>III<"+testName);
-        Description description = method.getAnnotation(Description.class);
-        System.out.println("dasd????>>>>>>>>>>>>"+description.value());
+        testName.set(method.getName());
         driver = WebDriverManager.getDriverInstance();
         context.setAttribute("driver", driver);
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(20));
-        driver.manage().window().maximize();
-        //init page object
-        loginPage = new LoginPage(driver);
-        myAccountPage = new MyAccountPage(driver);
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO); // Page objects wait explicitly through Wait
+        if (LeanBrowserProfile.isEnabled()) {
+            driver.manage().window().setSize(LeanBrowserProfile.getViewport()); // Headless windows cannot be maximized
+        } else {
+            driver.manage().window().maximize();
+        }
+        pages = new PageRegistry(driver);
+
+        LoggedInAs loggedInAs = method.getAnnotation(LoggedInAs.class);
+        if (loggedInAs != null) {
+            SessionStateCache.logIn(driver, appURL, loggedInAs);
+        }
     }
 
+    /**
+     * Quits the browser, returns it to the {@link WebDriverPool} when pooling is enabled, or closes the
+     * tab or window of the test with {@link BrowserContext} isolation. A browser is only kept if the
+     * test did not end with a WebDriver error. Once the session has ended, its
+     * video is queued for download by the {@link VideoQueue}, so the test thread is not held. The video
+     * of a pooled or shared session covers all tests it served, see {@link WebDriverPool}. With the
+     * {@code profileLocators} parameter, the locators of the page objects the test used are profiled
+     * against the page the test ended on first.
+     */
     @AfterMethod(alwaysRun = true)
-    public void tearDown() {
+    public void tearDown(ITestResult result) {
+        boolean sessionEnded = true;
+        if (driver != null && pages != null && LocatorProfiler.isEnabled()) {
+            for (Object page : pages.created()) {
+                LocatorProfiler.profile(driver, page);
+            }
+        }
         if (driver != null) {
-            WebDriverManager.quitDriver();
+            sessionEnded = WebDriverManager.releaseDriver(!(result.getThrowable() instanceof WebDriverException));
         }
 
         LoggerUtil.warning(String.format("Current Session Id is: %s", WebDriverManager.getSessionId()));
-        if (WebDriverManager.getSessionId() != null) {
-            CaptureAttachment.captureVideo(GetCapturedSession.getVideoPath(WebDriverManager.getSessionId()));
+        if (sessionEnded && WebDriverManager.getSessionId() != null) {
+            VideoQueue.enqueue(WebDriverManager.getSessionId());
         }
     }
 
+    /**
+     * Returns the page object of a class for the current test, creating it on first use.
+     *
+     * @param pageClass The page object class
+     * @param <T>       The page object type
+     * @return The page object
+     */
+    protected <T> T page(Class<T> pageClass) {
+        return pages.get(pageClass);
+    }
+
+    protected LoginPage loginPage() {
+        return page(LoginPage.class);
+    }
+
+    protected MyAccountPage myAccountPage() {
+        return page(MyAccountPage.class);
+    }
+
     /**
      * This is used for close the browser.
      */
@@ -126,11 +170,14 @@ public class BaseUIService {
 
     @AfterSuite(alwaysRun = true)
     public void generateReport() {
+        WebDriverPool.shutdownInstance();
+        BrowserContext.shutdown();
+        VideoQueue.awaitAll();
         AllureEnvironmentSetup.createEnvironmentFile();
         PDFReport.generatePDF();
     }
 
     public static String getTestName(){
-        return testName;
+        return testName.get();
     }
 }
\ No newline at end of file
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config;
+
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.enums.CircuitState;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-host circuit breaker that fails fast once an environment is unreachable.
+ *
+ * <p>Each host (scheme, host and port) has its own breaker. After a configured number of
+ * consecutive connection failures the breaker opens and every further call to that host is
+ * short-circuited with an {@link EnvironmentUnavailableException}, so tests are skipped
+ * instead of waiting out their own timeouts and retries.</p>
+ *
+ * <p>While open, the breaker probes the host with a plain TCP connect once per probe interval.
+ * When the probe succeeds the breaker becomes half-open and lets a single trial call through;
+ * the breaker closes again if the trial call reaches the host and re-opens otherwise.</p>
+ *
+ * <p>Configuration is read from the TestNG parameters:</p>
+ * <ul>
+ *   <li>{@code circuitBreakerThreshold} - consecutive connection failures before opening (default 3)</li>
+ *   <li>{@code circuitBreakerProbeSeconds} - seconds between recovery probes (default 30)</li>
+ * </ul>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see EnvironmentUnavailableException
+ * @see CircuitState
+ */
+public class CircuitBreaker {
+
+    private static final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private static final int DEFAULT_THRESHOLD = 3;
+    private static final int DEFAULT_PROBE_SECONDS = 30;
+    private static final int PROBE_TIMEOUT_MILLIS = 3000;
+    private static final List<String> NETWORK_ERROR_MARKERS = List.of(
+            "net::ERR_CONNECTION_REFUSED", "net::ERR_NAME_NOT_RESOLVED", "net::ERR_CONNECTION_TIMED_OUT",
+            "net::ERR_ADDRESS_UNREACHABLE", "net::ERR_INTERNET_DISCONNECTED", "net::ERR_CONNECTION_RESET",
+            "about:neterror?e=connectionFailure", "about:neterror?e=dnsNotFound", "about:neterror?e=netTimeout");
+
+    private final String host;
+    private final int threshold;
+    private final long probeIntervalNanos;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private boolean trialInFlight;
+    private long nextProbeAt;
+    private String lastFailure;
+
+    private CircuitBreaker(String host, int threshold, int probeSeconds) {
+        this.host = host;
+        this.threshold = threshold;
+        this.probeIntervalNanos = TimeUnit.SECONDS.toNanos(probeSeconds);
+    }
+
+    /**
+     * Returns the circuit breaker shared by all calls to the host of the given URL.
+     *
+     * @param url The URL being called
+     * @return The breaker for the URL's scheme, host and port
+     */
+    public static CircuitBreaker forUrl(String url) {
+        return breakers.computeIfAbsent(hostKey(url), key -> new CircuitBreaker(key,
+                (int) ReadTestNG.getLongParameter(Config.CIRCUIT_BREAKER_THRESHOLD, DEFAULT_THRESHOLD),
+                (int) ReadTestNG.getLongParameter(Config.CIRCUIT_BREAKER_PROBE_SECONDS, DEFAULT_PROBE_SECONDS)));
+    }
+
+    /**
+     * Checks whether a call to this host may proceed.
+     * Must be followed by {@link #onSuccess()} or {@link #onFailure(Throwable)} once the call completes.
+     *
+     * @throws EnvironmentUnavailableException if the breaker is open and the host did not recover
+     */
+    public void beforeCall() {
+        synchronized (this) {
+            if (state == CircuitState.CLOSED) {
+                return;
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                if (!trialInFlight) {
+                    trialInFlight = true;
+                    return;
+                }
+                throw unavailable();
+            }
+            long now = System.nanoTime();
+            if (now - nextProbeAt < 0) {
+                throw unavailable();
+            }
+            nextProbeAt = now + probeIntervalNanos; // Only one thread probes per interval
+        }
+
+        if (!probe()) {
+            throw unavailable();
+        }
+        synchronized (this) {
+            state = CircuitState.HALF_OPEN;
+            trialInFlight = true;
+        }
+        LoggerUtil.info(String.format("Circuit breaker for %s is half-open. Sending trial call.", host));
+    }
+
+    /**
+     * Records a call that reached the host. Closes the breaker if it was half-open.
+     */
+    public synchronized void onSuccess() {
+        if (state != CircuitState.CLOSED) {
+            LoggerUtil.info(String.format("Circuit breaker for %s closed. Environment is available again.", host));
+        }
+        state = CircuitState.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * Records a failed call. Only connection failures count towards opening the breaker;
+     * any other failure means the host was reached and is treated as a success.
+     *
+     * @param failure The failure raised by the call
+     */
+    public void onFailure(Throwable failure) {
+        if (!isConnectionFailure(failure)) {
+            onSuccess();
+            return;
+        }
+        synchronized (this) {
+            consecutiveFailures++;
+            lastFailure = rootCause(failure).toString();
+            trialInFlight = false;
+            if (state == CircuitState.HALF_OPEN || consecutiveFailures >= threshold) {
+                if (state != CircuitState.OPEN) {
+                    LoggerUtil.warning(String.format("Circuit breaker for %s opened after %d consecutive connection failures. Last: %s",
+                            host, consecutiveFailures, lastFailure));
+                }
+                state = CircuitState.OPEN;
+                nextProbeAt = System.nanoTime() + probeIntervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Returns the current state of the breaker.
+     *
+     * @return The breaker state
+     */
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    /**
+     * Determines whether the given failure, or any of its causes, is a failure to reach the host.
+     *
+     * @param failure The failure to inspect, may be null
+     * @return {@code true} for DNS, connect, connect-timeout and browser network errors
+     */
+    public static boolean isConnectionFailure(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException || t instanceof UnknownHostException || t instanceof NoRouteToHostException) {
+                return true;
+            }
+            if (t instanceof SocketTimeoutException && String.valueOf(t.getMessage()).contains("connect")) {
+                return true;
+            }
+            if (t instanceof InterruptedIOException && t.getClass().getSimpleName().equals("ConnectTimeoutException")) {
+                return true;
+            }
+            String message = String.valueOf(t.getMessage());
+            if (NETWORK_ERROR_MARKERS.stream().anyMatch(message::contains)) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Probes the host with a plain TCP connect.
+     *
+     * @return {@code true} if the host accepted the connection
+     */
+    private boolean probe() {
+        URI uri = URI.create(host);
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(uri.getHost(), port), PROBE_TIMEOUT_MILLIS);
+            return true;
+        } catch (IOException e) {
+            LoggerUtil.warning(String.format("Recovery probe for %s failed: %s", host, e.getMessage()));
+            return false;
+        }
+    }
+
+    private synchronized EnvironmentUnavailableException unavailable() {
+        return new EnvironmentUnavailableException(String.format(
+                "Environment unavailable: %s is unreachable after %d consecutive connection failures (last: %s).",
+                host, consecutiveFailures, lastFailure));
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable root = failure;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root;
+    }
+
+    /**
+     * Reduces a URL to its scheme, host and port. Credentials, paths and queries are dropped.
+     *
+     * @param url The URL to reduce
+     * @return The host key, e.g. {@code https://restful-booker.herokuapp.com:443}
+     */
+    private static String hostKey(String url) {
+        URI uri = URI.create(url.trim());
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase();
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(scheme) ? 443 : 80);
+        return scheme + "://" + uri.getHost() + ":" + port;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config;
+
+import org.testng.SkipException;
+
+/**
+ * Thrown when a call is short-circuited because the circuit breaker of the target host is open.
+ *
+ * <p>It extends TestNG's {@link SkipException}, so a test or configuration method that hits an
+ * unavailable environment is reported as skipped instead of failed, and is not retried.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see CircuitBreaker
+ */
+public class EnvironmentUnavailableException extends SkipException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new exception with the given message.
+     *
+     * @param message The message describing the unavailable environment
+     */
+    public EnvironmentUnavailableException(String message) {
+        super(message);
+    }
+}
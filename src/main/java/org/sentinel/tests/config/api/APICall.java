@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+/**
+ * Immutable record of a single HTTP call executed through {@link APIExecutor}.
+ *
+ * <p>Wire sizes include the request/status line and headers and use the
+ * {@code Content-Length} of the response when the server sent one, so compressed
+ * responses are counted at their compressed size. Decoded sizes are the body sizes
+ * after RestAssured has decompressed the payload.</p>
+ *
+ * @param testName             The test that issued the call, in {@code Class.method} form
+ * @param environment          The environment label of the executor that issued the call
+ * @param method               The HTTP method of the call
+ * @param endpoint             The endpoint path as passed by the caller
+ * @param statusCode           The HTTP status code of the response
+ * @param requestWireBytes     Request line, header and body bytes sent on the wire
+ * @param requestBodyBytes     Request body bytes before encoding
+ * @param responseWireBytes    Status line, header and body bytes received on the wire
+ * @param responseDecodedBytes Response body bytes after decoding
+ * @param elapsedMillis        Time taken by the call in milliseconds
+ * @param phases               Time spent in each connection phase of the call
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see APIMetrics
+ */
+public record APICall(String testName, String environment, String method, String endpoint, int statusCode,
+                      long requestWireBytes, long requestBodyBytes,
+                      long responseWireBytes, long responseDecodedBytes, long elapsedMillis,
+                      ConnectionPhases phases) {
+
+    /**
+     * Returns the total number of bytes sent and received on the wire by this call.
+     *
+     * @return request plus response wire bytes
+     */
+    public long totalWireBytes() {
+        return requestWireBytes + responseWireBytes;
+    }
+}
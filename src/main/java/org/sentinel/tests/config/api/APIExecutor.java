@@ -5,26 +5,39 @@
 package org.sentinel.tests.config.api;
 
 import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.sentinel.tests.constants.Config;
 import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
 
+import java.net.URI;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A utility class for executing HTTP API requests using REST Assured.
  * This class provides methods to make HTTP requests and handles response logging.
  * 
- * <p>The class maintains a static RequestSpecification and Response objects
- * to handle HTTP requests and responses. All responses are automatically logged
- * using the LoggerUtil.</p>
+ * <p>Each executor is bound to one base URI and one environment label, so executors for
+ * different environments can be used concurrently. Every request is built from a fresh
+ * RequestSpecification and measured by {@link APIMetricsFilter}, which records request and
+ * response sizes in {@link APIMetrics}. Requests to a host that is known to be down are
+ * short-circuited by {@link CircuitBreakerFilter}. Requests are sent through
+ * {@link PhaseTimingHttpClient}, which measures DNS, connect, TLS, time to first byte and download.
+ * When the {@code reuseConnections} parameter is true, all executors of a base URI share one
+ * HTTP client and reuse its pooled connections across requests and tests instead of connecting
+ * for every request. The shared clients are closed by {@link #shutdownSharedClients()}.
+ * All responses are automatically logged using the LoggerUtil.</p>
  *
  * <p>Usage example:</p>
  * <pre>
- * APIExecutor executor = new APIExecutor("https://api.example.com");
+ * APIExecutor executor = new APIExecutor("staging", "https://api.example.com");
  * Map<String, String> headers = new HashMap<>();
  * headers.put("Content-Type", "application/json");
- * Response response = APIExecutor.post("/endpoint", headers, jsonBody);
+ * Response response = executor.post("/endpoint", headers, jsonBody);
  * </pre>
  *
  * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
@@ -34,17 +47,90 @@ import java.util.Map;
  * @see io.restassured.specification.RequestSpecification
  */
 public class APIExecutor {
-    private static RequestSpecification requestSpecification;
-    private static Response response;
+    private static final CircuitBreakerFilter CIRCUIT_BREAKER_FILTER = new CircuitBreakerFilter();
+    private static final Map<String, PhaseTimingHttpClient> sharedClients = new ConcurrentHashMap<>();
+    private final String baseURI;
+    private final APIMetricsFilter metricsFilter;
+    private final RestAssuredConfig config;
+    private volatile boolean callReporting = true;
 
     /**
      * Constructor to initialize the APIExecutor with a base URI.
+     * The environment label defaults to the host of the base URI.
      *
      * @param baseURI The base URI for the API requests
      */
     APIExecutor(String baseURI) {
-        RestAssured.baseURI = baseURI;// Example API
-        RestAssured.given().log().all();
+        this(environmentOf(baseURI), baseURI);
+    }
+
+    /**
+     * Constructor to initialize the APIExecutor with an environment label and a base URI.
+     *
+     * @param environment The label of the environment, e.g. "dev" or "staging"
+     * @param baseURI     The base URI for the API requests
+     */
+    APIExecutor(String environment, String baseURI) {
+        this.baseURI = baseURI;
+        this.metricsFilter = new APIMetricsFilter(environment);
+        HttpClientConfig httpClientConfig = RestAssured.config().getHttpClientConfig();
+        if (Boolean.parseBoolean(ReadTestNG.getParameter(Config.REUSE_CONNECTIONS))) {
+            // REST Assured copies the client config per request, so the shared client is held per base URI
+            PhaseTimingHttpClient sharedClient = sharedClients.computeIfAbsent(baseURI.trim(), uri -> new PhaseTimingHttpClient());
+            httpClientConfig = httpClientConfig.httpClientFactory(() -> sharedClient).reuseHttpClientInstance();
+        } else {
+            httpClientConfig = httpClientConfig.httpClientFactory(PhaseTimingHttpClient::new);
+        }
+        this.config = RestAssured.config().httpClient(httpClientConfig);
+    }
+
+    /**
+     * Closes the HTTP clients shared when {@code reuseConnections} is true, together with their
+     * pooled connections. Executors created afterwards get new clients.
+     */
+    @SuppressWarnings("deprecation") // REST Assured 5 requires the legacy HttpClient 4 API
+    public static void shutdownSharedClients() {
+        for (String uri : sharedClients.keySet()) {
+            PhaseTimingHttpClient client = sharedClients.remove(uri);
+            if (client != null) {
+                client.getConnectionManager().shutdown();
+            }
+        }
+    }
+
+    /**
+     * Derives a default environment label from a base URI.
+     *
+     * @param baseURI The base URI
+     * @return The host of the base URI, or the base URI itself if it has no host
+     */
+    static String environmentOf(String baseURI) {
+        String host = URI.create(baseURI.trim()).getHost();
+        return host != null ? host : baseURI;
+    }
+
+    /**
+     * Creates a fresh request specification for a single call.
+     * A new specification is used per call so that headers and bodies of earlier calls
+     * are not carried over. Every call is guarded by the circuit breaker of its host and
+     * measured by {@link APIMetricsFilter}.
+     *
+     * @return A new request specification
+     */
+    private RequestSpecification newRequest() {
+        RequestSpecification request = RestAssured.given().config(config).baseUri(baseURI).filter(CIRCUIT_BREAKER_FILTER);
+        return callReporting ? request.filter(metricsFilter) : request;
+    }
+
+    /**
+     * Enables or disables per-call reporting. When disabled, responses are not logged and calls
+     * are not recorded individually in {@link APIMetrics}. High-volume callers such as
+     * {@link TrafficReplay} disable it and aggregate their own statistics.
+     *
+     * @param enabled {@code true} to log and record every call (the default)
+     */
+    void setCallReporting(boolean enabled) {
+        this.callReporting = enabled;
     }
 
     /**
@@ -75,8 +161,8 @@ public class APIExecutor {
      * @param body    The body of the request
      * @return The response object from the POST request
      */
-    static Response post(String path, Map<String, String> headers, String body) {
-        response = requestSpecification
+    Response post(String path, Map<String, String> headers, String body) {
+        Response response = newRequest()
                 .headers(headers) // Apply headers properly
                 .body(body)       // Set request body
                 .when()
@@ -85,14 +171,35 @@ public class APIExecutor {
         return response;
     }
 
+    /**
+     * Executes a request with any HTTP method.
+     *
+     * @param method  The HTTP method, e.g. GET, POST or DELETE
+     * @param path    The endpoint path including any query string
+     * @param headers The headers to include in the request
+     * @param body    The body of the request, may be null
+     * @return The response object from the request
+     */
+    Response execute(String method, String path, Map<String, String> headers, String body) {
+        RequestSpecification request = newRequest().headers(headers);
+        if (body != null) {
+            request.body(body);
+        }
+        Response response = request.when().request(method, path);
+        if (callReporting) {
+            logResponse(response);
+        }
+        return response;
+    }
+
     /**
      * Executes a GET request with the specified path.
      *
      * @param path The endpoint path for the GET request
      * @return The response object from the GET request
      */
-    static Response get(String path) {
-        response = requestSpecification       // Set request body
+    Response get(String path) {
+        Response response = newRequest()
                 .when()
                 .get(path);
         logResponse(response);
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Collects the {@link APICall} records of all API requests executed during the run
+ * and publishes bandwidth statistics to the Excel report.
+ *
+ * <p>The bandwidth report contains:</p>
+ * <ul>
+ *   <li>Aggregate bytes sent and received, and throughput in MB/s</li>
+ *   <li>The top-N heaviest calls by wire bytes (N from the {@code bandwidthTopN} parameter, default 10)</li>
+ *   <li>Bytes per endpoint</li>
+ *   <li>Bytes per test</li>
+ * </ul>
+ *
+ * <p>Throughput is calculated over the time spent inside API calls, so it reflects the
+ * rate achieved by the runner rather than the idle time between calls.</p>
+ *
+ * <p>The connection phase report breaks the time of every endpoint down into DNS, connect,
+ * TLS, time to first byte and download. A run in which connection setup (DNS, connect and TLS)
+ * takes more than half of the measured time is flagged, since that usually means connections
+ * are not pooled; see the {@code reuseConnections} parameter.</p>
+ *
+ * <p>When calls were made against more than one environment, an environment latency report
+ * compares the median and 95th percentile latency of every endpoint side by side.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see APICall
+ * @see APIMetricsFilter
+ */
+public class APIMetrics {
+
+    private static final Queue<APICall> calls = new ConcurrentLinkedQueue<>();
+    private static final int DEFAULT_TOP_N = 10;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+    private static final String SHEET_NAME = "API Bandwidth";
+    private static final String LATENCY_SHEET_NAME = "Environment Latency";
+    private static final String PHASES_SHEET_NAME = "API Connection Phases";
+    private static final double SETUP_DOMINATED_SHARE = 0.5;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private APIMetrics() {
+    }
+
+    /**
+     * Records a completed API call.
+     *
+     * @param call The call to record
+     */
+    static void record(APICall call) {
+        calls.add(call);
+    }
+
+    /**
+     * Returns a snapshot of all calls recorded so far.
+     *
+     * @return A list of recorded calls in execution order
+     */
+    public static List<APICall> getCalls() {
+        return new ArrayList<>(calls);
+    }
+
+    /**
+     * Clears all recorded calls.
+     */
+    public static void reset() {
+        calls.clear();
+    }
+
+    /**
+     * Writes the bandwidth statistics of all recorded calls to the "API Bandwidth" sheet
+     * of the Excel report. Does nothing if no API call was recorded.
+     */
+    public static void writeBandwidthReport() {
+        List<APICall> snapshot = getCalls();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        long requestWire = 0;
+        long responseWire = 0;
+        long responseDecoded = 0;
+        long elapsedMillis = 0;
+        for (APICall call : snapshot) {
+            requestWire += call.requestWireBytes();
+            responseWire += call.responseWireBytes();
+            responseDecoded += call.responseDecodedBytes();
+            elapsedMillis += call.elapsedMillis();
+        }
+        double throughput = elapsedMillis > 0 ? (requestWire + responseWire) / BYTES_PER_MB / (elapsedMillis / 1000.0) : 0;
+
+        List<Object[]> aggregate = new ArrayList<>();
+        aggregate.add(new Object[]{"Total Calls", snapshot.size()});
+        aggregate.add(new Object[]{"Request Bytes (wire)", requestWire});
+        aggregate.add(new Object[]{"Response Bytes (wire)", responseWire});
+        aggregate.add(new Object[]{"Response Bytes (decoded)", responseDecoded});
+        aggregate.add(new Object[]{"Time in Calls (ms)", elapsedMillis});
+        aggregate.add(new Object[]{"Throughput (MB/s)", String.format("%.3f", throughput)});
+
+        int topN = (int) ReadTestNG.getLongParameter(Config.BANDWIDTH_TOP_N, DEFAULT_TOP_N);
+        List<Object[]> heaviest = new ArrayList<>();
+        snapshot.stream()
+                .sorted(Comparator.comparingLong(APICall::totalWireBytes).reversed())
+                .limit(topN)
+                .forEach(call -> heaviest.add(new Object[]{call.testName(), call.environment(), call.method(), call.endpoint(), call.statusCode(),
+                        call.requestWireBytes(), call.responseWireBytes(), call.responseDecodedBytes(), call.elapsedMillis()}));
+
+        List<ReportTable> tables = new ArrayList<>();
+        tables.add(new ReportTable("Aggregate", new String[]{"Metric", "Value"}, aggregate));
+        tables.add(new ReportTable(String.format("Top %d Heaviest Calls", topN),
+                new String[]{"Test", "Environment", "Method", "Endpoint", "Status", "Request Bytes (wire)", "Response Bytes (wire)", "Response Bytes (decoded)", "Time (ms)"},
+                heaviest));
+        tables.add(groupedTable("Per Endpoint", "Endpoint", snapshot, call -> call.method() + " " + call.endpoint()));
+        tables.add(groupedTable("Per Test", "Test", snapshot, APICall::testName));
+        tables.add(groupedTable("Per Environment", "Environment", snapshot, APICall::environment));
+        ExcelUtil.writeReportSheet(SHEET_NAME, tables);
+
+        LoggerUtil.info(String.format("API bandwidth: %d calls, %d bytes sent, %d bytes received, %.3f MB/s.",
+                snapshot.size(), requestWire, responseWire, throughput));
+    }
+
+    /**
+     * Writes the mean time per connection phase of every endpoint to the "API Connection Phases"
+     * sheet of the Excel report, and flags the run if connection setup dominates.
+     * Does nothing if no API call was recorded.
+     */
+    public static void writeConnectionPhaseReport() {
+        List<APICall> snapshot = getCalls();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        Map<String, long[]> perEndpoint = new LinkedHashMap<>();
+        long[] overall = new long[7];
+        for (APICall call : snapshot) {
+            addPhases(perEndpoint.computeIfAbsent(call.method() + " " + call.endpoint(), k -> new long[7]), call.phases());
+            addPhases(overall, call.phases());
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        perEndpoint.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1] + e.getValue()[2] + e.getValue()[3]).reversed())
+                .forEach(e -> rows.add(phaseRow(e.getKey(), e.getValue())));
+
+        double setupShare = setupShare(overall);
+        boolean setupDominated = setupShare > SETUP_DOMINATED_SHARE;
+        List<Object[]> aggregate = new ArrayList<>();
+        aggregate.add(new Object[]{"Calls", overall[0]});
+        aggregate.add(new Object[]{"New Connections", overall[6]});
+        aggregate.add(new Object[]{"Connection Reuse", String.format("%.1f%%", overall[0] == 0 ? 0 : Math.max(0, overall[0] - overall[6]) * 100.0 / overall[0])});
+        aggregate.add(new Object[]{"Connection Setup Share", String.format("%.1f%%", setupShare * 100)});
+        aggregate.add(new Object[]{"Setup Dominated", setupDominated ? "YES - check connection pooling (reuseConnections)" : "No"});
+
+        List<ReportTable> tables = new ArrayList<>();
+        tables.add(new ReportTable("Aggregate", new String[]{"Metric", "Value"}, aggregate));
+        tables.add(new ReportTable("Mean per Call by Endpoint",
+                new String[]{"Endpoint", "Calls", "New Connections", "DNS (ms)", "Connect (ms)", "TLS (ms)", "TTFB (ms)", "Download (ms)", "Setup Share"},
+                rows));
+        tables.add(new ReportTable("Mean per Call (All Endpoints)",
+                new String[]{"Endpoint", "Calls", "New Connections", "DNS (ms)", "Connect (ms)", "TLS (ms)", "TTFB (ms)", "Download (ms)", "Setup Share"},
+                List.<Object[]>of(phaseRow("All", overall))));
+        ExcelUtil.writeReportSheet(PHASES_SHEET_NAME, tables);
+
+        if (setupDominated) {
+            LoggerUtil.warning(String.format("Connection setup (DNS, connect, TLS) took %.1f%% of API call time over %d calls with %d new connections. Connections are probably not pooled.",
+                    setupShare * 100, overall[0], overall[6]));
+        }
+    }
+
+    /**
+     * Adds the phases of a call to a totals array of calls, DNS, connect, TLS, TTFB, download and new connections.
+     */
+    private static void addPhases(long[] totals, ConnectionPhases phases) {
+        totals[0]++;
+        totals[1] += phases.dnsMicros();
+        totals[2] += phases.connectMicros();
+        totals[3] += phases.tlsMicros();
+        totals[4] += phases.ttfbMicros();
+        totals[5] += phases.downloadMicros();
+        totals[6] += phases.newConnections();
+    }
+
+    private static Object[] phaseRow(String endpoint, long[] totals) {
+        return new Object[]{endpoint, totals[0], totals[6], meanMillis(totals[1], totals[0]), meanMillis(totals[2], totals[0]),
+                meanMillis(totals[3], totals[0]), meanMillis(totals[4], totals[0]), meanMillis(totals[5], totals[0]),
+                String.format("%.1f%%", setupShare(totals) * 100)};
+    }
+
+    private static double setupShare(long[] totals) {
+        long setup = totals[1] + totals[2] + totals[3];
+        long all = setup + totals[4] + totals[5];
+        return all == 0 ? 0 : (double) setup / all;
+    }
+
+    private static double meanMillis(long totalMicros, long calls) {
+        return calls == 0 ? 0 : Math.round(totalMicros / MICROS_PER_MILLI / calls * 100) / 100.0;
+    }
+
+    /**
+     * Writes a side-by-side latency comparison of all environments to the "Environment Latency"
+     * sheet of the Excel report. Does nothing if calls were made against fewer than two environments.
+     */
+    public static void writeEnvironmentLatencyReport() {
+        List<APICall> snapshot = getCalls();
+        List<String> environments = snapshot.stream().map(APICall::environment).distinct().toList();
+        if (environments.size() < 2) {
+            return;
+        }
+
+        Map<String, Map<String, List<Long>>> latencies = new LinkedHashMap<>();
+        Map<String, List<Long>> perEnvironment = new LinkedHashMap<>();
+        for (APICall call : snapshot) {
+            latencies.computeIfAbsent(call.method() + " " + call.endpoint(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(call.environment(), k -> new ArrayList<>())
+                    .add(call.elapsedMillis());
+            perEnvironment.computeIfAbsent(call.environment(), k -> new ArrayList<>()).add(call.elapsedMillis());
+        }
+
+        List<String> columns = new ArrayList<>();
+        columns.add("Endpoint");
+        for (String environment : environments) {
+            columns.add(environment + " Calls");
+            columns.add(environment + " p50 (ms)");
+            columns.add(environment + " p95 (ms)");
+        }
+        columns.add("Slowest");
+        columns.add("p50 Spread (ms)");
+
+        List<Object[]> rows = new ArrayList<>();
+        latencies.forEach((endpoint, byEnvironment) -> {
+            List<Object> row = new ArrayList<>();
+            row.add(endpoint);
+            String slowest = "";
+            long minMedian = Long.MAX_VALUE;
+            long maxMedian = Long.MIN_VALUE;
+            for (String environment : environments) {
+                List<Long> values = byEnvironment.get(environment);
+                if (values == null) {
+                    row.add(0);
+                    row.add("");
+                    row.add("");
+                    continue;
+                }
+                long median = percentile(values, 50);
+                row.add(values.size());
+                row.add(median);
+                row.add(percentile(values, 95));
+                minMedian = Math.min(minMedian, median);
+                if (median > maxMedian) {
+                    maxMedian = median;
+                    slowest = environment;
+                }
+            }
+            row.add(slowest);
+            row.add(maxMedian - minMedian);
+            rows.add(row.toArray());
+        });
+
+        List<Object[]> summary = new ArrayList<>();
+        perEnvironment.forEach((environment, values) -> summary.add(new Object[]{environment, values.size(),
+                percentile(values, 50), percentile(values, 95), percentile(values, 100)}));
+
+        List<ReportTable> tables = new ArrayList<>();
+        tables.add(new ReportTable("Per Environment", new String[]{"Environment", "Calls", "p50 (ms)", "p95 (ms)", "Max (ms)"}, summary));
+        tables.add(new ReportTable("Per Endpoint", columns.toArray(new String[0]), rows));
+        ExcelUtil.writeReportSheet(LATENCY_SHEET_NAME, tables);
+
+        LoggerUtil.info(String.format("Environment latency compared across %s for %d endpoints.", environments, latencies.size()));
+    }
+
+    /**
+     * Returns the nearest-rank percentile of the given latencies.
+     *
+     * @param values     The latencies in milliseconds, not empty
+     * @param percentile The percentile between 1 and 100
+     * @return The latency at the percentile
+     */
+    private static long percentile(List<Long> values, int percentile) {
+        List<Long> sorted = values.stream().sorted().toList();
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+
+    /**
+     * Builds a table of byte totals grouped by the given key.
+     *
+     * @param title     The title of the table
+     * @param keyColumn The header of the grouping column
+     * @param snapshot  The calls to group
+     * @param key       The function that extracts the grouping key from a call
+     * @return The grouped table, ordered by total wire bytes descending
+     */
+    private static ReportTable groupedTable(String title, String keyColumn, List<APICall> snapshot, Function<APICall, String> key) {
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (APICall call : snapshot) {
+            long[] total = totals.computeIfAbsent(key.apply(call), k -> new long[5]);
+            total[0]++;
+            total[1] += call.requestWireBytes();
+            total[2] += call.responseWireBytes();
+            total[3] += call.responseDecodedBytes();
+            total[4] += call.elapsedMillis();
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        totals.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1] + e.getValue()[2]).reversed())
+                .forEach(e -> rows.add(new Object[]{e.getKey(), e.getValue()[0], e.getValue()[1], e.getValue()[2], e.getValue()[3], e.getValue()[4]}));
+        return new ReportTable(title,
+                new String[]{keyColumn, "Calls", "Request Bytes (wire)", "Response Bytes (wire)", "Response Bytes (decoded)", "Time (ms)"},
+                rows);
+    }
+}
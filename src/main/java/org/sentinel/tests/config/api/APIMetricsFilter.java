@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.sentinel.tests.utils.testng.CallTimings;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST Assured filter that measures every request executed through {@link APIExecutor}
+ * and records it as an {@link APICall} in {@link APIMetrics}.
+ *
+ * <p>The connection phases of the call are collected from {@link PhaseTimingHttpClient}.
+ * The duration of every call is also recorded in {@link CallTimings} for the running test,
+ * where it is checked against the test's latency budget.</p>
+ *
+ * <p>Each {@link APIExecutor} owns one filter, which tags every recorded call with
+ * the environment label of that executor.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see io.restassured.filter.Filter
+ */
+class APIMetricsFilter implements Filter {
+
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final int LINE_BREAK_BYTES = 2;
+
+    private final String environment;
+
+    /**
+     * Creates a filter that records calls for the given environment.
+     *
+     * @param environment The environment label attached to every recorded call
+     */
+    APIMetricsFilter(String environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long start = System.nanoTime();
+        PhaseTimingHttpClient.begin();
+        Response response;
+        long responseDecodedBytes;
+        ConnectionPhases phases;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            responseDecodedBytes = response.asByteArray().length; // REST Assured reads the body lazily
+        } finally {
+            phases = PhaseTimingHttpClient.end();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        CallTimings.record(requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath(), environment, elapsedMillis);
+
+        long requestBodyBytes = bodySize(requestSpec.getBody());
+        String requestLine = requestSpec.getMethod() + " " + requestSpec.getURI() + " HTTP/1.1";
+        long requestWireBytes = requestLine.length() + LINE_BREAK_BYTES + headerSize(requestSpec.getHeaders()) + requestBodyBytes;
+
+        long responseBodyWireBytes = responseDecodedBytes;
+        String contentLength = response.getHeader(CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                responseBodyWireBytes = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                // Fall back to the decoded size for malformed headers
+            }
+        }
+        long responseWireBytes = response.getStatusLine().length() + LINE_BREAK_BYTES + headerSize(response.getHeaders()) + responseBodyWireBytes;
+
+        APIMetrics.record(new APICall(currentTestName(), environment, requestSpec.getMethod(), requestSpec.getUserDefinedPath(),
+                response.getStatusCode(), requestWireBytes, requestBodyBytes,
+                responseWireBytes, responseDecodedBytes, elapsedMillis, phases));
+        return response;
+    }
+
+    /**
+     * Calculates the size of a header block, counting {@code "Name: Value\r\n"} per header
+     * plus the blank line that terminates the block.
+     *
+     * @param headers The headers to measure
+     * @return The size of the header block in bytes
+     */
+    private static long headerSize(Headers headers) {
+        long size = LINE_BREAK_BYTES;
+        for (Header header : headers) {
+            size += header.getName().length() + 2L + header.getValue().length() + LINE_BREAK_BYTES;
+        }
+        return size;
+    }
+
+    /**
+     * Calculates the size of a request body.
+     *
+     * @param body The request body, may be null
+     * @return The size of the body in bytes
+     */
+    private static long bodySize(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Returns the name of the test currently running on this thread.
+     *
+     * @return The test name in {@code Class.method} form, or "Adhoc" outside a TestNG test
+     */
+    static String currentTestName() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null) {
+            return "Adhoc";
+        }
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+}
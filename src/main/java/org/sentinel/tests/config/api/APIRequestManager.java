@@ -34,9 +34,26 @@ import static org.sentinel.tests.constants.APIConstants.*;
  */
 public class APIRequestManager {
 
+    private final APIExecutor apiExecutor;
 
+    /**
+     * Creates a request manager for the given base URI.
+     *
+     * @param baseURI The base URI for the API requests
+     */
     public APIRequestManager(String baseURI) {
-        new APIExecutor(baseURI);
+        this.apiExecutor = new APIExecutor(baseURI);
+    }
+
+    /**
+     * Creates a request manager for the given environment.
+     * Calls made through it are labeled with the environment in the API reports.
+     *
+     * @param environment The label of the environment, e.g. "dev" or "staging"
+     * @param baseURI     The base URI of the environment
+     */
+    public APIRequestManager(String environment, String baseURI) {
+        this.apiExecutor = new APIExecutor(environment, baseURI);
     }
 
     /**
@@ -110,7 +127,7 @@ public class APIRequestManager {
      * @return a Response object containing the server's response
      */
     public Response post(String path, Map<String, String> headers, String body) {
-        return APIExecutor.post(path, headers, body);
+        return apiExecutor.post(path, headers, body);
     }
 
     /**
@@ -120,6 +137,29 @@ public class APIRequestManager {
      * @return The response object from the GET request
      */
     public Response get(String path) {
-        return APIExecutor.get(path);
+        return apiExecutor.get(path);
+    }
+
+    /**
+     * Sends a request with any HTTP method, e.g. one read from a traffic log.
+     *
+     * @param httpMethod the HTTP method of the request
+     * @param path       the URL path including any query string
+     * @param headers    a Map containing the HTTP headers to be included in the request
+     * @param body       the request body as a String, may be null
+     * @return a Response object containing the server's response
+     */
+    public Response execute(String httpMethod, String path, Map<String, String> headers, String body) {
+        return apiExecutor.execute(httpMethod.toUpperCase(), path, headers, body);
+    }
+
+    /**
+     * Enables or disables per-call response logging and recording in {@link APIMetrics}.
+     * Disable it for high-volume traffic, where logging every response would dominate the run.
+     *
+     * @param enabled {@code true} to log and record every call (the default)
+     */
+    public void setCallReporting(boolean enabled) {
+        apiExecutor.setCallReporting(enabled);
     }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.sentinel.tests.config.CircuitBreaker;
+
+/**
+ * REST Assured filter that guards every request with the {@link CircuitBreaker} of its host.
+ *
+ * <p>Requests to a host whose breaker is open are short-circuited before any connection is
+ * attempted. Any HTTP response, whatever its status code, counts as the host being reachable.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see CircuitBreaker
+ */
+class CircuitBreakerFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        CircuitBreaker breaker = CircuitBreaker.forUrl(requestSpec.getURI());
+        breaker.beforeCall();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            breaker.onSuccess();
+            return response;
+        } catch (Exception e) {
+            breaker.onFailure(e);
+            throw e;
+        }
+    }
+}
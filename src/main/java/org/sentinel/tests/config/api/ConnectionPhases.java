@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+/**
+ * Time spent in each connection phase of one API call, measured by {@link PhaseTimingHttpClient}.
+ *
+ * <p>DNS, connect and TLS are zero when the call reused a pooled connection. When a call
+ * involves several exchanges, e.g. a redirect, the phases of all exchanges are added up.</p>
+ *
+ * @param dnsMicros      Time resolving the host name
+ * @param connectMicros  Time establishing the TCP connection
+ * @param tlsMicros      Time of the TLS handshake
+ * @param ttfbMicros     Time from starting to send the request until the response headers arrived
+ * @param downloadMicros Time reading the response body
+ * @param newConnections Number of connections opened for the call, 0 if a pooled connection was reused
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see APICall
+ */
+public record ConnectionPhases(long dnsMicros, long connectMicros, long tlsMicros, long ttfbMicros,
+                               long downloadMicros, int newConnections) {
+
+    /**
+     * Phases of a call that was not measured.
+     */
+    public static final ConnectionPhases NONE = new ConnectionPhases(0, 0, 0, 0, 0, 0);
+
+    /**
+     * Returns the time spent setting up the connection.
+     *
+     * @return DNS plus connect plus TLS time in microseconds
+     */
+    public long setupMicros() {
+        return dnsMicros + connectMicros + tlsMicros;
+    }
+
+    /**
+     * Returns the time spent in all measured phases.
+     *
+     * @return The sum of all phases in microseconds
+     */
+    public long totalMicros() {
+        return setupMicros() + ttfbMicros + downloadMicros;
+    }
+}
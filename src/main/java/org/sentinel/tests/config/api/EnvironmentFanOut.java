@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import io.restassured.response.Response;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.SkipException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Sends the same API call to several environments concurrently.
+ *
+ * <p>Environments are configured with the {@code baseURIs} TestNG parameter as a comma-separated
+ * list of {@code name=URI} pairs, e.g.
+ * {@code dev=https://dev.example.com/,staging=https://staging.example.com/}. When the parameter is
+ * empty the single {@code baseURI} parameter is used, so tests written against the fan-out run
+ * unchanged against one environment.</p>
+ *
+ * <p>The total time of a fanned-out call is that of the slowest environment instead of the sum of
+ * all environments. Calls are attributed to the calling test, so the API reports show them under
+ * the test that issued them, labeled by environment.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>
+ * Map&lt;String, String&gt; environments = EnvironmentFanOut.parseEnvironments(baseURIs, baseURI);
+ * List&lt;EnvironmentResponse&gt; responses = EnvironmentFanOut.run(services, service -&gt; service.getBookingIds(path));
+ * </pre>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see EnvironmentResponse
+ */
+public class EnvironmentFanOut {
+
+    /**
+     * Environment label used when only the single {@code baseURI} parameter is configured.
+     */
+    public static final String DEFAULT_ENVIRONMENT = "default";
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "environment-fan-out");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private EnvironmentFanOut() {
+    }
+
+    /**
+     * Parses the environments to fan out to.
+     *
+     * @param baseURIs The {@code name=URI} list, may be null or empty
+     * @param baseURI  The single base URI used when {@code baseURIs} is empty
+     * @return The base URI of each environment keyed by environment label, in configuration order
+     * @throws IllegalArgumentException if an entry is malformed or an environment is listed twice
+     * @throws IllegalStateException    if neither parameter is configured
+     */
+    public static Map<String, String> parseEnvironments(String baseURIs, String baseURI) {
+        Map<String, String> environments = new LinkedHashMap<>();
+        if (baseURIs == null || baseURIs.isBlank()) {
+            if (baseURI == null || baseURI.isBlank()) {
+                throw new IllegalStateException("Neither baseURIs nor baseURI parameter is configured.");
+            }
+            environments.put(DEFAULT_ENVIRONMENT, baseURI.trim());
+            return environments;
+        }
+
+        for (String entry : baseURIs.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalArgumentException(String.format("Invalid baseURIs entry '%s'. Expected name=URI.", entry.trim()));
+            }
+            String name = entry.substring(0, separator).trim();
+            if (environments.put(name, entry.substring(separator + 1).trim()) != null) {
+                throw new IllegalArgumentException(String.format("Environment '%s' is listed more than once in baseURIs.", name));
+            }
+        }
+        return environments;
+    }
+
+    /**
+     * Executes a call against every target concurrently and waits for all of them to complete.
+     * A single target is called on the current thread.
+     *
+     * @param targets The per-environment targets of the call, keyed by environment label
+     * @param call    The call to execute against each target
+     * @param <T>     The type of the target, e.g. a service bound to one environment
+     * @return One result per environment, in the iteration order of {@code targets}
+     * @throws SkipException if a call is skipped, e.g. because the environment is unavailable
+     */
+    public static <T> List<EnvironmentResponse> run(Map<String, T> targets, Function<T, Response> call) {
+        List<EnvironmentResponse> results = new ArrayList<>();
+        if (targets.size() == 1) {
+            Map.Entry<String, T> target = targets.entrySet().iterator().next();
+            results.add(execute(target.getKey(), target.getValue(), call));
+            return results;
+        }
+
+        ITestResult testResult = Reporter.getCurrentTestResult();
+        List<CompletableFuture<EnvironmentResponse>> futures = new ArrayList<>();
+        targets.forEach((environment, target) -> futures.add(CompletableFuture.supplyAsync(() -> {
+            Reporter.setCurrentTestResult(testResult); // Attribute the call to the calling test
+            try {
+                return execute(environment, target, call);
+            } finally {
+                Reporter.setCurrentTestResult(null);
+            }
+        }, executor)));
+
+        for (CompletableFuture<EnvironmentResponse> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof SkipException skip) {
+                    throw skip; // Report the test as skipped, not as a failed environment
+                }
+                throw new IllegalStateException("Environment fan-out failed.", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private static <T> EnvironmentResponse execute(String environment, T target, Function<T, Response> call) {
+        try {
+            return new EnvironmentResponse(environment, call.apply(target), null);
+        } catch (SkipException e) {
+            throw e;
+        } catch (Exception e) { // REST Assured rethrows checked I/O exceptions unchecked
+            LoggerUtil.warning(String.format("[%s] API call failed: %s", environment, e.getMessage()));
+            return new EnvironmentResponse(environment, null, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import io.restassured.response.Response;
+
+/**
+ * The outcome of one API call fanned out to a single environment by {@link EnvironmentFanOut}.
+ *
+ * <p>Exactly one of {@code response} and {@code error} is set: the response if the call
+ * completed, or the failure if the call could not be made.</p>
+ *
+ * @param environment The environment label the call was sent to
+ * @param response    The response of the call, or null if the call failed
+ * @param error       The failure raised by the call, or null if it completed
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see EnvironmentFanOut
+ */
+public record EnvironmentResponse(String environment, Response response, Throwable error) {
+
+    /**
+     * Returns whether the call completed with a response.
+     *
+     * @return {@code true} if a response was received
+     */
+    public boolean hasResponse() {
+        return response != null;
+    }
+}
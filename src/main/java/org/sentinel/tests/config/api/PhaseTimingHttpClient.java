@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.SystemDefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+
+/**
+ * HTTP client used by {@link APIExecutor} that measures the connection phases of every exchange.
+ *
+ * <p>It behaves like REST Assured's default {@link SystemDefaultHttpClient} and hooks into the
+ * client at the points where each phase happens:</p>
+ * <ul>
+ *   <li>DNS - the {@link DnsResolver} of the connection manager</li>
+ *   <li>Connect and TLS - the socket factories of the {@code http} and {@code https} schemes</li>
+ *   <li>Time to first byte and download - the request executor and the response entity</li>
+ * </ul>
+ *
+ * <p>Phases are collected per thread between {@link #begin()} and {@link #end()}, which
+ * {@link APIMetricsFilter} calls around each request. Phases outside such a window are not
+ * recorded. If a test replaces the {@code https} scheme, e.g. through REST Assured's
+ * relaxed HTTPS validation, connect and TLS time of that scheme are not measured.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see ConnectionPhases
+ */
+@SuppressWarnings("deprecation") // REST Assured 5 requires the legacy AbstractHttpClient API of HttpClient 4
+class PhaseTimingHttpClient extends SystemDefaultHttpClient {
+
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    private static final ThreadLocal<Recorder> recorder = new ThreadLocal<>();
+
+    /**
+     * Starts collecting the connection phases of the requests made by the current thread.
+     */
+    static void begin() {
+        recorder.set(new Recorder());
+    }
+
+    /**
+     * Stops collecting and returns the phases collected since {@link #begin()}.
+     *
+     * @return The collected phases, or {@link ConnectionPhases#NONE} if collection was not started
+     */
+    static ConnectionPhases end() {
+        Recorder current = recorder.get();
+        recorder.remove();
+        return current == null ? ConnectionPhases.NONE : current.toPhases();
+    }
+
+    @Override
+    protected ClientConnectionManager createClientConnectionManager() {
+        SchemeRegistry registry = new SchemeRegistry();
+        registry.register(new Scheme("http", 80, new TimedSocketFactory()));
+        registry.register(new Scheme("https", 443, new TimedTlsSocketFactory()));
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager(registry, new TimedDnsResolver());
+        int maxPerRoute = Integer.getInteger("http.maxConnections", DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setMaxTotal(2 * maxPerRoute);
+        return connectionManager;
+    }
+
+    @Override
+    protected HttpRequestExecutor createRequestExecutor() {
+        return new TimedRequestExecutor();
+    }
+
+    /**
+     * Runs a phase and adds its duration to the recorder of the current thread, if any.
+     */
+    private static <T> T time(Phase phase, IOAction<T> action) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return action.run();
+        } finally {
+            Recorder current = recorder.get();
+            if (current != null) {
+                current.add(phase, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private enum Phase {
+        DNS, CONNECT, TLS, TTFB, DOWNLOAD
+    }
+
+    @FunctionalInterface
+    private interface IOAction<T> {
+        T run() throws IOException;
+    }
+
+    /**
+     * Phase durations of the current thread, in nanoseconds.
+     */
+    private static class Recorder {
+        private final long[] nanos = new long[Phase.values().length];
+        private int newConnections;
+
+        synchronized void add(Phase phase, long elapsedNanos) {
+            nanos[phase.ordinal()] += elapsedNanos;
+            if (phase == Phase.CONNECT) {
+                newConnections++;
+            }
+        }
+
+        synchronized ConnectionPhases toPhases() {
+            return new ConnectionPhases(micros(Phase.DNS), micros(Phase.CONNECT), micros(Phase.TLS),
+                    micros(Phase.TTFB), micros(Phase.DOWNLOAD), newConnections);
+        }
+
+        private long micros(Phase phase) {
+            return nanos[phase.ordinal()] / 1000;
+        }
+    }
+
+    private static class TimedDnsResolver implements DnsResolver {
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            long start = System.nanoTime();
+            try {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            } finally {
+                Recorder current = recorder.get();
+                if (current != null) {
+                    current.add(Phase.DNS, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Socket factory of the {@code http} scheme that times the TCP connect.
+     * It must not be layered, since HttpClient plans routes of layered schemes as secure.
+     */
+    private static class TimedSocketFactory implements SchemeSocketFactory {
+        final PlainSocketFactory plain = PlainSocketFactory.getSocketFactory();
+
+        @Override
+        public Socket createSocket(HttpParams params) {
+            return plain.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, ConnectTimeoutException {
+            return time(Phase.CONNECT, () -> plain.connectSocket(socket, remoteAddress, localAddress, params));
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return false;
+        }
+    }
+
+    /**
+     * Socket factory of the {@code https} scheme that connects a plain socket and layers TLS
+     * on top, timing the two steps separately.
+     */
+    private static class TimedTlsSocketFactory extends TimedSocketFactory implements SchemeLayeredSocketFactory {
+        private final SSLSocketFactory tls = SSLSocketFactory.getSystemSocketFactory();
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, ConnectTimeoutException {
+            Socket connected = super.connectSocket(socket, remoteAddress, localAddress, params);
+            String host = remoteAddress instanceof HttpInetSocketAddress address
+                    ? address.getHttpHost().getHostName() : remoteAddress.getHostName();
+            try {
+                return createLayeredSocket(connected, host, remoteAddress.getPort(), params);
+            } catch (IOException e) {
+                connected.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException {
+            // The hostname verification inside createLayeredSocket completes the handshake
+            return time(Phase.TLS, () -> tls.createLayeredSocket(socket, target, port, params));
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return tls.isSecure(socket);
+        }
+    }
+
+    /**
+     * Request executor that times the wait for the response headers and the body download.
+     */
+    private static class TimedRequestExecutor extends HttpRequestExecutor {
+        @Override
+        public HttpResponse execute(HttpRequest request, HttpClientConnection connection, HttpContext context)
+                throws IOException, HttpException {
+            long start = System.nanoTime();
+            HttpResponse response = super.execute(request, connection, context);
+            Recorder current = recorder.get();
+            if (current != null) {
+                current.add(Phase.TTFB, System.nanoTime() - start);
+                if (response.getEntity() != null) {
+                    response.setEntity(new TimedEntity(response.getEntity(), current));
+                }
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Response entity that records the download time once the body has been read or closed.
+     */
+    private static class TimedEntity extends HttpEntityWrapper {
+        private final Recorder owner;
+
+        TimedEntity(HttpEntity entity, Recorder owner) {
+            super(entity);
+            this.owner = owner;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            long start = System.nanoTime();
+            return new FilterInputStream(super.getContent()) {
+                private boolean recorded;
+
+                @Override
+                public int read() throws IOException {
+                    int value = super.read();
+                    if (value == -1) {
+                        record();
+                    }
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int count = super.read(buffer, offset, length);
+                    if (count == -1) {
+                        record();
+                    }
+                    return count;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        record();
+                    }
+                }
+
+                private void record() {
+                    if (!recorded) {
+                        recorded = true;
+                        owner.add(Phase.DOWNLOAD, System.nanoTime() - start);
+                    }
+                }
+            };
+        }
+    }
+}
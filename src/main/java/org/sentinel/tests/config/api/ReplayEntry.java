@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import java.util.Map;
+
+/**
+ * A single request read from a traffic log by {@link ReplayLogReader}.
+ *
+ * @param timestampMillis The time the request was originally received in epoch milliseconds, or -1 if unknown
+ * @param method          The HTTP method
+ * @param path            The request path including any query string
+ * @param headers         The request headers to replay, empty for access logs
+ * @param body            The request body, or null if the request had none
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see TrafficReplay
+ */
+public record ReplayEntry(long timestampMillis, String method, String path, Map<String, String> headers, String body) {
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.sentinel.tests.utils.log.LoggerUtil;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streams {@link ReplayEntry} records from a traffic log, one line at a time.
+ *
+ * <p>Only the current line is held in memory, so logs of any size are read in constant memory.
+ * Files ending in {@code .gz} are decompressed on the fly. Each line is parsed in one of two formats:</p>
+ * <ul>
+ *   <li>NDJSON - one JSON object per line with {@code method}, {@code path} (or an absolute {@code url}),
+ *   and optional {@code timestamp} (epoch milliseconds or ISO-8601), {@code headers} and {@code body}</li>
+ *   <li>Access log - Common or Combined Log Format, e.g.
+ *   {@code 10.0.0.1 - - [10/Oct/2025:13:55:36 +0000] "GET /booking/1 HTTP/1.1" 200 512}</li>
+ * </ul>
+ *
+ * <p>Lines that match neither format are skipped and counted.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see TrafficReplay
+ */
+public class ReplayLogReader implements Iterator<ReplayEntry>, Closeable {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern ACCESS_LOG = Pattern.compile("^\\S+ \\S+ \\S+ \\[([^\\]]+)] \"([A-Za-z]+) (\\S+)(?: [^\"]*)?\"");
+    private static final DateTimeFormatter ACCESS_LOG_TIME = DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.ENGLISH);
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("host", "content-length", "connection", "transfer-encoding");
+
+    private final BufferedReader reader;
+    private ReplayEntry next;
+    private long lineNumber;
+    private long skippedLines;
+
+    private ReplayLogReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Opens a traffic log for streaming.
+     *
+     * @param logFile The NDJSON or access log file, optionally gzip compressed
+     * @return A reader positioned at the first entry
+     * @throws IOException if the file cannot be opened
+     */
+    public static ReplayLogReader open(Path logFile) throws IOException {
+        InputStream input = Files.newInputStream(logFile);
+        try {
+            if (logFile.getFileName().toString().endsWith(".gz")) {
+                input = new GZIPInputStream(input, BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+        return new ReplayLogReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE));
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            String line;
+            while (next == null && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    next = parse(line.trim());
+                }
+            }
+            return next != null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ReplayEntry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ReplayEntry entry = next;
+        next = null;
+        return entry;
+    }
+
+    /**
+     * Returns the number of non-blank lines that could not be parsed so far.
+     *
+     * @return The skipped line count
+     */
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ReplayEntry parse(String line) {
+        try {
+            ReplayEntry entry = line.startsWith("{") ? parseJson(line) : parseAccessLog(line);
+            if (entry != null) {
+                return entry;
+            }
+        } catch (IOException | RuntimeException e) {
+            // Counted as skipped below
+        }
+        if (skippedLines++ == 0) {
+            LoggerUtil.warning(String.format("Skipping unparseable traffic log line %d: %s", lineNumber,
+                    line.length() > 200 ? line.substring(0, 200) + "..." : line));
+        }
+        return null;
+    }
+
+    private static ReplayEntry parseJson(String line) throws IOException {
+        JsonNode node = objectMapper.readTree(line);
+        String path = node.path("path").asText(null);
+        if (path == null) {
+            String url = node.path("url").asText(null);
+            if (url == null) {
+                return null;
+            }
+            URI uri = URI.create(url);
+            path = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        node.path("headers").fields().forEachRemaining(header -> {
+            if (!HOP_BY_HOP_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                headers.put(header.getKey(), header.getValue().asText());
+            }
+        });
+
+        JsonNode body = node.get("body");
+        String bodyText = body == null || body.isNull() ? null : body.isTextual() ? body.asText() : body.toString();
+        return new ReplayEntry(parseTimestamp(node.get("timestamp")), node.path("method").asText("GET").toUpperCase(Locale.ROOT),
+                path, headers, bodyText);
+    }
+
+    private static ReplayEntry parseAccessLog(String line) {
+        Matcher matcher = ACCESS_LOG.matcher(line);
+        if (!matcher.find()) {
+            return null;
+        }
+        long timestamp = OffsetDateTime.parse(matcher.group(1), ACCESS_LOG_TIME).toInstant().toEpochMilli();
+        return new ReplayEntry(timestamp, matcher.group(2).toUpperCase(Locale.ROOT), matcher.group(3), Collections.emptyMap(), null);
+    }
+
+    private static long parseTimestamp(JsonNode timestamp) {
+        if (timestamp == null || timestamp.isNull()) {
+            return -1;
+        }
+        if (timestamp.isNumber()) {
+            return timestamp.asLong();
+        }
+        try {
+            return Instant.parse(timestamp.asText()).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return OffsetDateTime.parse(timestamp.asText()).toInstant().toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import io.restassured.response.Response;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.LatencyStats;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Replays production-shaped traffic from an access log or NDJSON file against a test environment.
+ *
+ * <p>Entries are streamed from disk by {@link ReplayLogReader} and sent through an
+ * {@link APIRequestManager}. The original inter-arrival times are preserved and divided by the
+ * speed factor, so a speed of 2 replays an hour of traffic in 30 minutes. A speed of 0 or less
+ * sends every entry as soon as a request slot is free.</p>
+ *
+ * <p>At most {@code concurrency} requests are in flight at any time. When all slots are busy the
+ * replay falls behind the original schedule; the largest delay is reported as the schedule lag,
+ * which indicates that the concurrency limit, not the environment, bounded the replay.</p>
+ *
+ * <p>Latency and status counts are aggregated per endpoint in constant memory. Numeric, UUID and
+ * long hexadecimal path segments are folded into {@code {id}}, so {@code GET /booking/12} and
+ * {@code GET /booking/57} are reported together as {@code GET /booking/{id}}.</p>
+ *
+ * <p>Configuration is read from the TestNG parameters:</p>
+ * <ul>
+ *   <li>{@code replayConcurrency} - maximum requests in flight (default 8)</li>
+ *   <li>{@code replaySpeed} - speed factor applied to the original timing (default 1.0)</li>
+ * </ul>
+ *
+ * <p>The {@code traffic-replay} test of the suite replays the file set by the {@code replayLog}
+ * parameter against {@code baseURI}. In code:</p>
+ * <pre>
+ * TrafficReplay replay = new TrafficReplay(new APIRequestManager("staging", baseURI));
+ * ReplayReport report = replay.replay(Paths.get("access.log.gz"));
+ * report.writeToExcel();
+ * </pre>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see ReplayLogReader
+ * @see LatencyStats
+ */
+public class TrafficReplay {
+
+    private static final int DEFAULT_CONCURRENCY = 8;
+    private static final double DEFAULT_SPEED = 1.0;
+    private static final Pattern QUERY = Pattern.compile("\\?.*$");
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,})(?=/|$)");
+
+    private final APIRequestManager requestManager;
+    private final int concurrency;
+    private final double speed;
+
+    /**
+     * Creates a replay that reads its concurrency and speed from the TestNG parameters.
+     *
+     * @param requestManager The request manager bound to the target environment
+     */
+    public TrafficReplay(APIRequestManager requestManager) {
+        this(requestManager, (int) ReadTestNG.getLongParameter(Config.REPLAY_CONCURRENCY, DEFAULT_CONCURRENCY),
+                ReadTestNG.getDoubleParameter(Config.REPLAY_SPEED, DEFAULT_SPEED));
+    }
+
+    /**
+     * Creates a replay with explicit concurrency and speed.
+     *
+     * @param requestManager The request manager bound to the target environment
+     * @param concurrency    The maximum number of requests in flight
+     * @param speed          The speed factor, or 0 to replay as fast as possible
+     * @throws IllegalArgumentException if concurrency is less than 1
+     */
+    public TrafficReplay(APIRequestManager requestManager, int concurrency, double speed) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Replay concurrency must be at least 1: " + concurrency);
+        }
+        this.requestManager = requestManager;
+        this.concurrency = concurrency;
+        this.speed = speed;
+    }
+
+    /**
+     * Replays every entry of the log and waits for all requests to complete.
+     * Responses are not logged individually; the statistics are returned in the report.
+     *
+     * @param logFile The NDJSON or access log file, optionally gzip compressed
+     * @return The per-endpoint statistics of the replay
+     * @throws IOException if the log cannot be read
+     */
+    public ReplayReport replay(Path logFile) throws IOException {
+        LoggerUtil.info(String.format("Replaying %s with concurrency %d at speed %s.", logFile, concurrency,
+                speed > 0 ? speed + "x" : "unpaced"));
+        Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+        Semaphore slots = new Semaphore(concurrency);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "traffic-replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        requestManager.setCallReporting(false);
+
+        long replayed = 0;
+        long skipped;
+        long maxLagNanos = 0;
+        long startNanos = System.nanoTime();
+        long firstTimestamp = -1;
+        try (ReplayLogReader reader = ReplayLogReader.open(logFile)) {
+            while (reader.hasNext()) {
+                ReplayEntry entry = reader.next();
+                long dueNanos = System.nanoTime();
+                if (speed > 0 && entry.timestampMillis() >= 0) {
+                    if (firstTimestamp < 0) {
+                        firstTimestamp = entry.timestampMillis();
+                    }
+                    dueNanos = startNanos + (long) (TimeUnit.MILLISECONDS.toNanos(entry.timestampMillis() - firstTimestamp) / speed);
+                    TimeUnit.NANOSECONDS.sleep(dueNanos - System.nanoTime());
+                }
+                slots.acquire();
+                maxLagNanos = Math.max(maxLagNanos, System.nanoTime() - dueNanos);
+                EndpointStats stats = endpoints.computeIfAbsent(entry.method() + " " + normalize(entry.path()), k -> new EndpointStats());
+                executor.execute(() -> {
+                    try {
+                        send(entry, stats);
+                    } finally {
+                        slots.release();
+                    }
+                });
+                replayed++;
+            }
+            skipped = reader.getSkippedLines();
+            slots.acquire(concurrency); // Wait for the requests still in flight
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Traffic replay was interrupted after " + replayed + " requests.", e);
+        } finally {
+            executor.shutdownNow();
+            requestManager.setCallReporting(true);
+        }
+
+        ReplayReport report = new ReplayReport(logFile.getFileName().toString(), replayed, skipped,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), TimeUnit.NANOSECONDS.toMillis(maxLagNanos), endpoints);
+        LoggerUtil.info(String.format("Replayed %d requests (%d lines skipped) in %d ms. Max schedule lag %d ms.",
+                report.requests(), report.skippedLines(), report.durationMillis(), report.maxLagMillis()));
+        return report;
+    }
+
+    private void send(ReplayEntry entry, EndpointStats stats) {
+        long start = System.nanoTime();
+        try {
+            Response response = requestManager.execute(entry.method(), entry.path(), entry.headers(), entry.body());
+            stats.record(System.nanoTime() - start, response.getStatusCode());
+        } catch (Exception e) { // REST Assured rethrows checked I/O exceptions unchecked
+            stats.record(System.nanoTime() - start, 0);
+        }
+    }
+
+    /**
+     * Reduces a request path to its endpoint by dropping the query and folding identifiers.
+     *
+     * @param path The request path
+     * @return The endpoint, e.g. {@code /booking/{id}}
+     */
+    static String normalize(String path) {
+        String endpoint = QUERY.matcher(path).replaceFirst("");
+        String previous;
+        do { // Repeat so that adjacent identifier segments are all folded
+            previous = endpoint;
+            endpoint = ID_SEGMENT.matcher(endpoint).replaceAll("/{id}");
+        } while (!endpoint.equals(previous));
+        return endpoint.isEmpty() ? "/" : endpoint;
+    }
+
+    /**
+     * Latency and status counts of one endpoint.
+     */
+    public static class EndpointStats {
+        private final LatencyStats latency = new LatencyStats();
+        private final AtomicLong success = new AtomicLong();
+        private final AtomicLong clientErrors = new AtomicLong();
+        private final AtomicLong serverErrors = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        void record(long elapsedNanos, int statusCode) {
+            latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (statusCode == 0) {
+                failures.incrementAndGet();
+            } else if (statusCode >= 500) {
+                serverErrors.incrementAndGet();
+            } else if (statusCode >= 400) {
+                clientErrors.incrementAndGet();
+            } else {
+                success.incrementAndGet();
+            }
+        }
+
+        public LatencyStats getLatency() {
+            return latency;
+        }
+
+        public long getSuccess() {
+            return success.get();
+        }
+
+        public long getClientErrors() {
+            return clientErrors.get();
+        }
+
+        public long getServerErrors() {
+            return serverErrors.get();
+        }
+
+        /**
+         * Returns the number of requests that got no response, e.g. connection failures.
+         *
+         * @return The failure count
+         */
+        public long getFailures() {
+            return failures.get();
+        }
+
+        /**
+         * Returns the share of requests that failed or returned a 5xx status.
+         *
+         * @return The error rate between 0 and 1
+         */
+        public double getErrorRate() {
+            long count = latency.getCount();
+            return count == 0 ? 0 : (double) (serverErrors.get() + failures.get()) / count;
+        }
+    }
+
+    /**
+     * The outcome of a replay.
+     *
+     * @param source         The name of the replayed log file
+     * @param requests       The number of requests sent
+     * @param skippedLines   The number of log lines that could not be parsed
+     * @param durationMillis The wall-clock duration of the replay
+     * @param maxLagMillis   The largest delay behind the original schedule
+     * @param endpoints      The statistics of each endpoint
+     */
+    public record ReplayReport(String source, long requests, long skippedLines, long durationMillis, long maxLagMillis,
+                               Map<String, EndpointStats> endpoints) {
+
+        /**
+         * Writes the replay statistics to the "Traffic Replay" sheet of the Excel report.
+         */
+        public void writeToExcel() {
+            List<Object[]> summary = new ArrayList<>();
+            summary.add(new Object[]{"Source", source});
+            summary.add(new Object[]{"Requests", requests});
+            summary.add(new Object[]{"Skipped Lines", skippedLines});
+            summary.add(new Object[]{"Duration (ms)", durationMillis});
+            summary.add(new Object[]{"Max Schedule Lag (ms)", maxLagMillis});
+            summary.add(new Object[]{"Throughput (req/s)", durationMillis > 0 ? Math.round(requests * 1000.0 / durationMillis) : requests});
+
+            List<Object[]> rows = new ArrayList<>();
+            endpoints.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, EndpointStats> e) -> e.getValue().getLatency().getCount()).reversed())
+                    .forEach(e -> {
+                        EndpointStats stats = e.getValue();
+                        LatencyStats latency = stats.getLatency();
+                        rows.add(new Object[]{e.getKey(), latency.getCount(), stats.getSuccess(), stats.getClientErrors(),
+                                stats.getServerErrors(), stats.getFailures(), String.format("%.2f%%", stats.getErrorRate() * 100),
+                                round(latency.getMeanMillis()), round(latency.percentileMillis(50)), round(latency.percentileMillis(95)),
+                                round(latency.percentileMillis(99)), round(latency.getMaxMillis())});
+                    });
+
+            ExcelUtil.writeReportSheet("Traffic Replay", List.of(
+                    new ReportTable("Replay", new String[]{"Metric", "Value"}, summary),
+                    new ReportTable("Per Endpoint", new String[]{"Endpoint", "Requests", "2xx/3xx", "4xx", "5xx", "No Response",
+                            "Error Rate", "Mean (ms)", "p50 (ms)", "p95 (ms)", "p99 (ms)", "Max (ms)"}, rows)));
+        }
+
+        private static double round(double millis) {
+            return Math.round(millis * 10) / 10.0;
+        }
+    }
+}
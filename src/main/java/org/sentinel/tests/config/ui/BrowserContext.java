@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.sentinel.tests.base.BaseUIService;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Isolates tests in a fresh tab or window of a long-lived browser instead of a browser of their own,
+ * so a browser process is started once per thread rather than once per test.
+ *
+ * <p>The mode is selected with the {@code browserIsolation} parameter:</p>
+ * <ul>
+ *   <li>{@code process} - every test gets a browser of its own, or one from the {@link WebDriverPool} (default)</li>
+ *   <li>{@code tab} - every test gets a new tab of the browser of its thread</li>
+ *   <li>{@code window} - every test gets a new window of the browser of its thread</li>
+ * </ul>
+ *
+ * <p>When a test starts, the cookies of the browser are cleared and a new tab or window is opened
+ * and selected. When the test ends, the cookies and the local and session storage of the page it
+ * ended on are cleared, and every tab and window it opened is closed. Chromium browsers also drop
+ * all other data of that origin, e.g. IndexedDB and caches. The browser itself stays open on its
+ * first, blank window for the next test of the thread. It is quit when the test ended with a
+ * WebDriver error, when it cannot be cleaned up, when the next test of the thread needs another
+ * browser, e.g. in a {@link org.sentinel.tests.utils.testng.BrowserMatrix}, and at the end of the
+ * suite. The mode takes precedence over the {@link WebDriverPool}. With {@code blockNetwork}, the
+ * {@link NetworkBlocker} intercepts the new tab or window instead of the first one.</p>
+ *
+ * <p>Selenium 4.5 has no WebDriver BiDi user contexts, which would give each test a cookie jar of
+ * its own. Tabs and windows of one browser share cookies and local storage, so tests of one thread
+ * are isolated by clearing them, not by separate storage.</p>
+ *
+ * <p>The video of a remote shared browser covers every test of its thread that ran in it. It is
+ * queued with the {@link org.sentinel.tests.utils.insights.VideoQueue} when the browser is quit,
+ * and attached to the Allure test or fixture running at that point, usually the suite teardown.</p>
+ *
+ * <p>How long each context took to open, and whether a browser had to be launched for it, is
+ * written to the "Browser Contexts" sheet of the Excel report.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see WebDriverManager
+ */
+public class BrowserContext {
+
+    private static final String SHEET_NAME = "Browser Contexts";
+    private static final String PROCESS = "process";
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {} try { window.sessionStorage.clear(); } catch (e) {}";
+    private static final String ORIGIN_SCRIPT = "return window.location.origin;";
+
+    private static final ThreadLocal<SharedBrowser> sharedThreadLocal = new ThreadLocal<>();
+    private static final Set<SharedBrowser> sharedBrowsers = ConcurrentHashMap.newKeySet();
+    private static final List<Object[]> openings = new ArrayList<>();
+    private static final Map<String, long[]> perBrowser = new TreeMap<>();
+
+    private BrowserContext() {
+    }
+
+    /**
+     * Returns whether tests are isolated in tabs or windows of a shared browser.
+     *
+     * @return {@code true} if the {@code browserIsolation} parameter is {@code tab} or {@code window}
+     */
+    public static boolean isEnabled() {
+        return windowType() != null;
+    }
+
+    /**
+     * Opens a new tab or window for a test in the browser of the current thread, launching the
+     * browser if the thread has none yet. A shared browser that cannot open the context is quit and
+     * replaced once.
+     *
+     * @param factory Launches a new browser
+     * @return The shared browser, switched to the new context
+     */
+    static WebDriverPool.PooledDriver open(Supplier<WebDriverPool.PooledDriver> factory) {
+        WindowType type = windowType();
+        String key = String.join("|", String.valueOf(ReadTestNG.getParameter(Config.BROWSER_NAME)),
+                String.valueOf(ReadTestNG.getParameter(Config.PLATFORM)), String.valueOf(ReadTestNG.getParameter(Config.BROWSER_VERSION)));
+        SharedBrowser shared = sharedThreadLocal.get();
+        if (shared != null && !shared.key.equals(key)) {
+            LoggerUtil.info(String.format("Thread needs another browser (%s). Quitting shared browser %s.", key, shared.key));
+            discard(shared);
+            WebDriverPool.queueVideo(shared.session);
+            shared = null;
+        }
+        boolean launched = shared == null;
+        if (launched) {
+            WebDriverPool.PooledDriver session = factory.get();
+            shared = new SharedBrowser(session, key, session.raw().getWindowHandle());
+            sharedThreadLocal.set(shared);
+            sharedBrowsers.add(shared);
+        }
+
+        WebDriver raw = shared.session.raw();
+        long start = System.nanoTime();
+        try {
+            if (raw instanceof ChromiumDriver chromium) {
+                // Cookies are shared by all tabs and windows of the browser
+                chromium.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            }
+            raw.switchTo().newWindow(type);
+            shared.context = raw.getWindowHandle();
+            NetworkBlocker.attachContext(raw, shared.context);
+        } catch (RuntimeException e) {
+            discard(shared);
+            WebDriverPool.queueVideo(shared.session);
+            if (launched) {
+                throw e;
+            }
+            LoggerUtil.warning(String.format("Shared browser %s could not open a new %s: %s. Launching a new browser.",
+                    shared.key, type.toString(), e.getMessage()));
+            return open(factory);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        shared.session.markUsed();
+        record(type, launched, elapsedMillis);
+        LoggerUtil.info(String.format("Opened browser %s %d in %d ms (%s browser).", type.toString(), shared.session.uses(),
+                elapsedMillis, launched ? "launched" : "reused"));
+        return shared.session;
+    }
+
+    /**
+     * Returns whether the current thread is using a context of a shared browser.
+     *
+     * @return {@code true} if a context is open
+     */
+    static boolean isOpen() {
+        SharedBrowser shared = sharedThreadLocal.get();
+        return shared != null && shared.context != null;
+    }
+
+    /**
+     * Ends the context of the current thread: clears the storage of its page and closes its tabs and
+     * windows. The browser is quit instead if the test ended with a WebDriver error or the context
+     * cannot be cleaned up.
+     *
+     * @param healthy {@code false} if the test ended with a WebDriver error, so the browser must not be reused
+     * @return {@code true} if the browser session has ended, {@code false} if it stays open for the next test
+     */
+    static boolean close(boolean healthy) {
+        SharedBrowser shared = sharedThreadLocal.get();
+        if (shared == null) {
+            return true;
+        }
+        if (!healthy) {
+            LoggerUtil.info(String.format("Quitting shared browser %s after a WebDriver error.", shared.key));
+            discard(shared);
+            return true;
+        }
+        WebDriver raw = shared.session.raw();
+        try {
+            raw.switchTo().window(shared.context);
+            ((JavascriptExecutor) raw).executeScript(CLEAR_STORAGE_SCRIPT);
+            raw.manage().deleteAllCookies();
+            if (raw instanceof ChromiumDriver chromium) {
+                Object origin = ((JavascriptExecutor) raw).executeScript(ORIGIN_SCRIPT);
+                if (origin instanceof String value && value.startsWith("http")) {
+                    chromium.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", value, "storageTypes", "all"));
+                }
+            }
+            for (String handle : raw.getWindowHandles()) {
+                if (!handle.equals(shared.anchor)) {
+                    raw.switchTo().window(handle).close();
+                }
+            }
+            raw.switchTo().window(shared.anchor);
+            shared.context = null;
+            return false;
+        } catch (RuntimeException e) {
+            LoggerUtil.warning(String.format("Failed to close browser context of %s: %s. Quitting the browser.", shared.key, e.getMessage()));
+            discard(shared);
+            return true;
+        }
+    }
+
+    /**
+     * Quits the shared browser of the current thread, if any.
+     */
+    static void quit() {
+        SharedBrowser shared = sharedThreadLocal.get();
+        if (shared != null) {
+            discard(shared);
+        }
+    }
+
+    /**
+     * Quits the shared browsers of all threads.
+     */
+    public static void shutdown() {
+        for (SharedBrowser shared : new ArrayList<>(sharedBrowsers)) {
+            sharedBrowsers.remove(shared);
+            quit(shared);
+            WebDriverPool.queueVideo(shared.session);
+        }
+        sharedThreadLocal.remove();
+    }
+
+    /**
+     * Writes the time each context took to open to the "Browser Contexts" sheet of the Excel report.
+     * Nothing is written if no test ran in a shared browser.
+     */
+    public static void writeReport() {
+        List<Object[]> browserRows = new ArrayList<>();
+        List<Object[]> contextRows;
+        synchronized (openings) {
+            if (openings.isEmpty()) {
+                return;
+            }
+            perBrowser.forEach((browser, totals) -> browserRows.add(new Object[]{browser, totals[0], totals[1],
+                    String.format("%.1f", (double) totals[2] / totals[0]), totals[3]}));
+            contextRows = new ArrayList<>(openings);
+        }
+        ExcelUtil.writeReportSheet(SHEET_NAME, List.of(
+                new ReportTable("Per Browser", new String[]{"Browser", "Contexts", "Browsers Launched",
+                        "Mean Creation (ms)", "Slowest Creation (ms)"}, browserRows),
+                new ReportTable("Per Test", new String[]{"Test", "Browser", "Context", "Browser Session", "Creation (ms)"}, contextRows)));
+    }
+
+    private static void record(WindowType type, boolean launched, long elapsedMillis) {
+        String test = BaseUIService.getTestName();
+        String browser = String.valueOf(ReadTestNG.getParameter(Config.BROWSER_NAME));
+        synchronized (openings) {
+            openings.add(new Object[]{test == null ? "-" : test, browser, type.toString(), launched ? "Launched" : "Reused", elapsedMillis});
+            long[] totals = perBrowser.computeIfAbsent(browser, k -> new long[4]);
+            totals[0]++;
+            totals[1] += launched ? 1 : 0;
+            totals[2] += elapsedMillis;
+            totals[3] = Math.max(totals[3], elapsedMillis);
+        }
+    }
+
+    /**
+     * Returns the window type of the {@code browserIsolation} parameter.
+     *
+     * @return The type, or null if tests get browsers of their own
+     */
+    private static WindowType windowType() {
+        String value = ReadTestNG.getParameter(Config.BROWSER_ISOLATION);
+        if (value == null || value.isBlank() || PROCESS.equalsIgnoreCase(value.trim())) {
+            return null;
+        }
+        try {
+            return WindowType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LoggerUtil.warning(String.format("Invalid %s parameter: %s", Config.BROWSER_ISOLATION, value));
+            return null;
+        }
+    }
+
+    /**
+     * Quits a shared browser of the current thread and forgets it.
+     */
+    private static void discard(SharedBrowser shared) {
+        sharedThreadLocal.remove();
+        sharedBrowsers.remove(shared);
+        quit(shared);
+    }
+
+    private static void quit(SharedBrowser shared) {
+        try {
+            shared.session.raw().quit();
+        } catch (RuntimeException e) {
+            LoggerUtil.error(String.format("Error while quitting shared browser %s: %s", shared.key, e.getMessage()));
+        }
+    }
+
+    /**
+     * The long-lived browser of a thread.
+     */
+    private static final class SharedBrowser {
+        private final WebDriverPool.PooledDriver session;
+        private final String key;
+        private final String anchor;
+        private String context;
+
+        /**
+         * @param session The browser session, whose uses count the contexts it served
+         * @param key     The browser, platform and version the browser was launched for
+         * @param anchor  The handle of the first window, which keeps the browser open between tests
+         */
+        SharedBrowser(WebDriverPool.PooledDriver session, String key, String anchor) {
+            this.session = session;
+            this.key = key;
+            this.anchor = anchor;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Collects how long browsers take to launch and how much memory each instance uses, so the
+ * number of parallel browsers per CI machine can be sized.
+ *
+ * <p>Launch time is measured for every browser launched by {@link WebDriverManager}. Memory is the
+ * resident set size of the driver process and all browser processes it started, sampled when a
+ * test releases its browser. It can only be measured for local browsers on Linux; remote
+ * browsers and other platforms report launch time only.</p>
+ *
+ * <p>The figures are written to the "Browser Footprint" sheet of the Excel report, grouped by
+ * browser, profile and where the browser runs.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see LeanBrowserProfile
+ */
+public class BrowserFootprint {
+
+    private static final String SHEET_NAME = "Browser Footprint";
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+    private static final Map<String, long[]> stats = new TreeMap<>();
+
+    private BrowserFootprint() {
+    }
+
+    /**
+     * Records the launch of a browser.
+     *
+     * @param elapsedMillis The time the launch took
+     */
+    public static void recordLaunch(long elapsedMillis) {
+        LoggerUtil.info(String.format("Browser launched in %d ms (%s profile).", elapsedMillis, LeanBrowserProfile.getName()));
+        synchronized (stats) {
+            long[] totals = statsOfCurrentRun();
+            totals[0]++;
+            totals[1] += elapsedMillis;
+            totals[2] = Math.max(totals[2], elapsedMillis);
+        }
+    }
+
+    /**
+     * Samples the memory used by a local browser. Browsers whose memory cannot be measured are ignored.
+     *
+     * @param browser The undecorated driver of the browser
+     */
+    public static void recordMemory(WebDriver browser) {
+        long rssBytes = residentSetBytes(browser);
+        if (rssBytes < 0) {
+            return;
+        }
+        LoggerUtil.info(String.format("Browser uses %.1f MB of memory.", rssBytes / BYTES_PER_MB));
+        synchronized (stats) {
+            long[] totals = statsOfCurrentRun();
+            totals[3]++;
+            totals[4] += rssBytes;
+            totals[5] = Math.max(totals[5], rssBytes);
+        }
+    }
+
+    /**
+     * Writes the launch times and memory use to the "Browser Footprint" sheet of the Excel report.
+     * Nothing is written if no browser was launched.
+     */
+    public static void writeReport() {
+        List<Object[]> rows = new ArrayList<>();
+        synchronized (stats) {
+            stats.forEach((key, totals) -> {
+                String[] group = key.split("\\|", -1);
+                rows.add(new Object[]{group[0], group[1], group[2], totals[0],
+                        totals[0] == 0 ? "-" : String.format("%.0f", (double) totals[1] / totals[0]), totals[2],
+                        totals[3] == 0 ? "n/a" : String.format("%.1f", totals[4] / BYTES_PER_MB / totals[3]),
+                        totals[3] == 0 ? "n/a" : String.format("%.1f", totals[5] / BYTES_PER_MB)});
+            });
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        ExcelUtil.writeReportSheet(SHEET_NAME, List.of(new ReportTable("Launch Time and Memory per Browser",
+                new String[]{"Browser", "Profile", "Run On", "Launches", "Mean Launch (ms)", "Max Launch (ms)",
+                        "Mean Memory (MB)", "Max Memory (MB)"},
+                rows)));
+    }
+
+    /**
+     * Returns the totals of the current browser, profile and run_on: launches, launch millis,
+     * max launch millis, memory samples, memory bytes and max memory bytes.
+     */
+    private static long[] statsOfCurrentRun() {
+        String key = String.join("|", String.valueOf(ReadTestNG.getParameter(Config.BROWSER_NAME)),
+                LeanBrowserProfile.getName(), String.valueOf(ReadTestNG.getParameter(Config.RUN_ON)));
+        return stats.computeIfAbsent(key, k -> new long[6]);
+    }
+
+    /**
+     * Sums the resident set size of the driver process serving a local browser and its descendants.
+     * The driver process is found by the port it listens on.
+     *
+     * @return The size in bytes, or -1 if it cannot be measured
+     */
+    private static long residentSetBytes(WebDriver browser) {
+        if (!(browser instanceof RemoteWebDriver remote) || !(remote.getCommandExecutor() instanceof HttpCommandExecutor executor)
+                || !Files.isDirectory(Paths.get("/proc"))) {
+            return -1;
+        }
+        String host = executor.getAddressOfRemoteServer().getHost();
+        if (!"localhost".equals(host) && !host.startsWith("127.")) {
+            return -1;
+        }
+        String portArgument = "--port=" + executor.getAddressOfRemoteServer().getPort();
+        Optional<ProcessHandle> driverProcess = ProcessHandle.current().children()
+                .filter(process -> process.info().arguments()
+                        .map(arguments -> Stream.of(arguments).anyMatch(portArgument::equals))
+                        .orElse(false))
+                .findFirst();
+        if (driverProcess.isEmpty()) {
+            return -1;
+        }
+        return Stream.concat(Stream.of(driverProcess.get()), driverProcess.get().descendants())
+                .mapToLong(process -> residentSetBytes(process.pid()))
+                .sum();
+    }
+
+    private static long residentSetBytes(long pid) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("\\D", ""))
+                    .mapToLong(kilobytes -> Long.parseLong(kilobytes) * 1024)
+                    .findFirst()
+                    .orElse(0);
+        } catch (IOException | RuntimeException e) {
+            return 0; // The process ended while it was measured
+        }
+    }
+}
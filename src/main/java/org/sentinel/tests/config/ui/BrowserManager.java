@@ -4,7 +4,7 @@
  */
 package org.sentinel.tests.config.ui;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -14,6 +14,8 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.sentinel.tests.config.CircuitBreaker;
+import org.sentinel.tests.config.EnvironmentUnavailableException;
 import org.sentinel.tests.utils.log.LoggerUtil;
 import org.sentinel.tests.utils.testng.ReadTestNG;
 
@@ -33,12 +35,14 @@ import java.net.URL;
  *
  * <p>Remote testing is supported through LambdaTest integration using environment credentials.
  *
- * <p>The class uses WebDriverManager for automatic driver binary management and configuration.
+ * <p>Driver binaries are resolved once per JVM by {@link DriverBinaryResolver}, which falls back to
+ * WebDriverManager for automatic driver binary management.
  *
  * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
  * @version 1.0
  * @see org.openqa.selenium.WebDriver
- * @see io.github.bonigarcia.wdm.WebDriverManager
+ * @see DriverBinaryResolver
+ * @see NetworkBlocker
  * @see org.openqa.selenium.remote.RemoteWebDriver
  */
 public class BrowserManager {
@@ -52,6 +56,8 @@ public class BrowserManager {
      *
      * <p>For Chrome: Disables web security, allows insecure content, and remote origins
      * <p>For Firefox and Edge: Uses default configurations
+     * <p>In fast mode, all browsers are launched with the headless {@link LeanBrowserProfile}
+     * <p>With the {@code blockNetwork} parameter, requests of the session are filtered by {@link NetworkBlocker}
      *
      * @return WebDriver - Initialized WebDriver instance for the specified browser
      * @throws IllegalArgumentException if an unsupported browser is specified
@@ -68,33 +74,46 @@ public class BrowserManager {
             LoggerUtil.info("Initializing browser: " + browser);
             switch (browser.toLowerCase()) {
                 case "chrome":
-                    WebDriverManager.chromedriver().setup();
+                    DriverBinaryResolver.resolve(browser);
                     ChromeOptions chromeOptions = new ChromeOptions();
                     chromeOptions.addArguments("--disable-web-security");
                     chromeOptions.addArguments("--allow-running-insecure-content");
                     chromeOptions.addArguments("--remote-allow-origins=*");
+                    if (LeanBrowserProfile.isEnabled()) {
+                        LeanBrowserProfile.apply(chromeOptions);
+                    }
                     driver = new ChromeDriver(chromeOptions);
                     break;
 
                 case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
+                    DriverBinaryResolver.resolve(browser);
                     FirefoxOptions firefoxOptions = new FirefoxOptions();
+                    if (LeanBrowserProfile.isEnabled()) {
+                        LeanBrowserProfile.apply(firefoxOptions);
+                    }
                     driver = new FirefoxDriver(firefoxOptions);
                     break;
 
                 case "edge":
-                    WebDriverManager.edgedriver().setup();
+                    DriverBinaryResolver.resolve(browser);
                     EdgeOptions edgeOptions = new EdgeOptions();
+                    if (LeanBrowserProfile.isEnabled()) {
+                        LeanBrowserProfile.apply(edgeOptions);
+                    }
                     driver = new EdgeDriver(edgeOptions);
                     break;
 
                 default:
                     throw new IllegalArgumentException("Unsupported browser: " + browser);
             }
+            NetworkBlocker.attach(driver);
             LoggerUtil.info("Browser initialized successfully: " + browser);
             return driver;
         } catch (Exception e) {
             LoggerUtil.error("Failed to initialize browser: " + browser + " - Error: " + e.getMessage());
+            if (e instanceof SessionNotCreatedException) {
+                DriverBinaryResolver.invalidate(browser); // e.g. the browser was upgraded past the resolved driver
+            }
             throw new IllegalArgumentException("WebDriver initialization failed", e);
         }
     }
@@ -104,16 +123,28 @@ public class BrowserManager {
      * 
      * This method configures and initializes a remote WebDriver session using LambdaTest capabilities
      * and credentials. It uses environment variables for authentication.
+     * Session creation is guarded by the circuit breaker of the grid host, so an unreachable grid
+     * skips the remaining tests instead of timing out on every one of them.
      *
      * @return WebDriver instance configured for remote testing
      * @throws RuntimeException if the LambdaTest URL is malformed or connection cannot be established
+     * @throws EnvironmentUnavailableException if the grid host's circuit breaker is open
      */
     public static WebDriver getRemoteBrowser() {
         try {
             DesiredCapabilities capabilities = Capabilities.getCapabilities();
             LoggerUtil.info("Remote browser opening with : %s" + capabilities);
             String ltUrl = String.format(ReadTestNG.getParameter("lt_URL"), System.getenv("LT_USER"), System.getenv("LT_ACCESS_KEY"));
-            return new RemoteWebDriver(new URL(ltUrl), capabilities);
+            CircuitBreaker breaker = CircuitBreaker.forUrl(ltUrl);
+            breaker.beforeCall();
+            try {
+                WebDriver driver = new RemoteWebDriver(new URL(ltUrl), capabilities);
+                breaker.onSuccess();
+                return driver;
+            } catch (RuntimeException e) {
+                breaker.onFailure(e);
+                throw e;
+            }
         } catch (MalformedURLException e) {
             LoggerUtil.info("Remote browser not launched");
             throw new IllegalArgumentException("Remote browser not launched");
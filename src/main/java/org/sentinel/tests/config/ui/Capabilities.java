@@ -36,6 +36,7 @@ public class Capabilities {
      * - platform: The operating system platform
      * - browserName: The name of the browser to use
      * - version: Browser version
+     * - fastMode: Requests a headless session, see {@link LeanBrowserProfile}
      * <p>
      * The capabilities are used to configure test environment settings for browser automation.
      *
@@ -50,6 +51,9 @@ public class Capabilities {
         capabilities.setCapability(Config.BROWSER_VERSION, ReadTestNG.getParameter(Config.BROWSER_VERSION));
         capabilities.setCapability(Config.BUILD_NAME,System.getenv(Config.LT_BUILD));
         capabilities.setCapability(Config.RUN_NAME, BaseUIService.getTestName());
+        if (LeanBrowserProfile.isEnabled()) {
+            LeanBrowserProfile.apply(capabilities);
+        }
         return capabilities;
     }
 }
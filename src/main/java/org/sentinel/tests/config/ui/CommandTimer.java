@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.Logs;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * WebDriver decorator that times every WebDriver command, so the UI test time can be broken down
+ * into finding elements, clicks, reading text, navigation and so on.
+ *
+ * <p>Each command is tagged with its type, e.g. {@code WebElement.click}, and with the page-object
+ * method it was called from, e.g. {@code LoginPage.clickOnLoginButton}. Commands called outside
+ * page objects, e.g. from tests or the framework, are tagged {@code -}.</p>
+ *
+ * <p>Calls that only return a decorated accessor, e.g. {@code manage()}, {@code switchTo()} or
+ * {@code manage().timeouts()}, never leave the JVM and are not timed. Only commands sent to the
+ * browser count, so they do not drag the fastest command towards zero.</p>
+ *
+ * <p>The "WebDriver Commands" sheet of the Excel report shows a histogram of the command times per
+ * command type and page-object method for the whole suite, and per test. In remote runs every
+ * command is a round trip to the grid, so the fastest command of a test approximates the round
+ * trip time, and the number of commands times that floor estimates how much of the test was spent
+ * on round trips.</p>
+ *
+ * <p>Timing is enabled with the {@code timeCommands} parameter. When disabled, drivers are not
+ * decorated at all, so there is no overhead.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see WebDriverManager
+ */
+public class CommandTimer extends WebDriverDecorator<WebDriver> {
+
+    private static final String SHEET_NAME = "WebDriver Commands";
+    private static final String PAGE_OBJECT_PACKAGE = "org.sentinel.tests.ui.pom.";
+    private static final String NO_PAGE_OBJECT = "-";
+    private static final long[] BUCKET_BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+    private static final Set<Class<?>> LOCAL_ACCESSORS = Set.of(WebDriver.Options.class, WebDriver.TargetLocator.class,
+            WebDriver.Navigation.class, WebDriver.Timeouts.class, WebDriver.Window.class, Logs.class);
+
+    private static final Map<String, Histogram> perCommand = new TreeMap<>();
+    private static final Map<String, Histogram> perTest = new TreeMap<>();
+
+    /**
+     * Returns whether WebDriver commands should be timed.
+     *
+     * @return {@code true} if the {@code timeCommands} parameter is set
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ReadTestNG.getParameter(Config.TIME_COMMANDS));
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class || isLocalAccessor(method)) {
+            return super.call(target, method, args);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.call(target, method, args);
+        } finally {
+            record(method.getDeclaringClass().getSimpleName() + "." + method.getName(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Writes the command histograms for the suite and per test to the "WebDriver Commands" sheet of
+     * the Excel report. Nothing is written if no command was timed.
+     */
+    public static void writeReport() {
+        List<Object[]> commandRows = new ArrayList<>();
+        List<Object[]> testRows = new ArrayList<>();
+        synchronized (perCommand) {
+            perCommand.forEach((key, histogram) -> commandRows.add(histogram.toRow(key.split("\n", 2))));
+            perTest.forEach((test, histogram) -> testRows.add(histogram.toRow(test)));
+        }
+        if (commandRows.isEmpty()) {
+            return;
+        }
+        ExcelUtil.writeReportSheet(SHEET_NAME, List.of(
+                new ReportTable("Suite per Command", columns("Command", "Page Object Method"), commandRows),
+                new ReportTable("Per Test", columns("Test"), testRows)));
+    }
+
+    /**
+     * Returns whether a method only returns a decorated accessor without a command to the browser.
+     * Accessor methods that take arguments, e.g. {@code Timeouts.implicitlyWait}, do send one.
+     */
+    private static boolean isLocalAccessor(Method method) {
+        return method.getParameterCount() == 0 && LOCAL_ACCESSORS.contains(method.getReturnType());
+    }
+
+    private static void record(String command, long elapsedNanos) {
+        String key = command + "\n" + callingPageObjectMethod();
+        ITestResult result = Reporter.getCurrentTestResult();
+        String test = result == null ? "Outside tests"
+                : result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        Histogram commandHistogram;
+        Histogram testHistogram;
+        synchronized (perCommand) {
+            commandHistogram = perCommand.computeIfAbsent(key, k -> new Histogram());
+            testHistogram = perTest.computeIfAbsent(test, k -> new Histogram());
+        }
+        commandHistogram.record(elapsedNanos);
+        testHistogram.record(elapsedNanos);
+    }
+
+    /**
+     * Returns the innermost page-object method on the stack, e.g. {@code LoginPage.clickOnLoginButton}.
+     */
+    private static String callingPageObjectMethod() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(PAGE_OBJECT_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(PAGE_OBJECT_PACKAGE.length()) + "." + frame.getMethodName())
+                .orElse(NO_PAGE_OBJECT));
+    }
+
+    private static String[] columns(String... keys) {
+        List<String> columns = new ArrayList<>(List.of(keys));
+        columns.addAll(List.of("Commands", "Total (ms)", "Mean (ms)", "Fastest (ms)", "Slowest (ms)", "Est. Round Trips (ms)"));
+        long lower = 0;
+        for (long bound : BUCKET_BOUNDS_MILLIS) {
+            columns.add(String.format("%d-%d ms", lower, bound));
+            lower = bound;
+        }
+        columns.add(String.format(">%d ms", lower));
+        return columns.toArray(new String[0]);
+    }
+
+    /**
+     * Command times bucketed by {@link #BUCKET_BOUNDS_MILLIS}.
+     */
+    private static class Histogram {
+        private long count;
+        private long totalNanos;
+        private long minNanos = Long.MAX_VALUE;
+        private long maxNanos;
+        private final long[] buckets = new long[BUCKET_BOUNDS_MILLIS.length + 1];
+
+        synchronized void record(long elapsedNanos) {
+            count++;
+            totalNanos += elapsedNanos;
+            minNanos = Math.min(minNanos, elapsedNanos);
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && elapsedNanos >= BUCKET_BOUNDS_MILLIS[bucket] * NANOS_PER_MILLI) {
+                bucket++;
+            }
+            buckets[bucket]++;
+        }
+
+        synchronized Object[] toRow(String... keys) {
+            List<Object> row = new ArrayList<>(List.of(keys));
+            row.add(count);
+            row.add(String.format("%.1f", totalNanos / NANOS_PER_MILLI));
+            row.add(String.format("%.1f", totalNanos / NANOS_PER_MILLI / count));
+            row.add(String.format("%.1f", minNanos / NANOS_PER_MILLI));
+            row.add(String.format("%.1f", maxNanos / NANOS_PER_MILLI));
+            row.add(String.format("%.1f", count * minNanos / NANOS_PER_MILLI));
+            for (long bucket : buckets) {
+                row.add(bucket);
+            }
+            return row.toArray();
+        }
+    }
+}
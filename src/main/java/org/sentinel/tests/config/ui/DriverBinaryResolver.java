@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the driver binary of a local browser once and shares it with all threads.
+ *
+ * <p>Resolution happens on the first launch of a browser in the JVM. The binary is looked up in
+ * this order:</p>
+ * <ol>
+ *   <li>The directory given by the {@code driverDir} parameter. This works fully offline with a
+ *       directory pre-seeded with e.g. {@code chromedriver}, {@code geckodriver} or
+ *       {@code msedgedriver}.</li>
+ *   <li>The resolution file {@code ~/.cache/sentinel-tests/driver-resolution.properties}, which
+ *       records the binaries resolved by earlier runs on the machine.</li>
+ *   <li>WebDriverManager, whose result is recorded in the resolution file.</li>
+ * </ol>
+ *
+ * <p>The resolved path is set as the Selenium driver system property, so later launches skip
+ * resolution. If a browser cannot start with a recorded binary, e.g. after a browser upgrade,
+ * {@link #invalidate(String)} drops the recorded binary so the next launch resolves it again.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see BrowserManager
+ */
+public class DriverBinaryResolver {
+
+    private static final Path RESOLUTION_FILE = Paths.get(System.getProperty("user.home"),
+            ".cache", "sentinel-tests", "driver-resolution.properties");
+    private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Resolves the driver binary of a browser and sets its Selenium system property.
+     * Only the first call per browser does any work.
+     *
+     * @param browser The browser name: chrome, firefox or edge
+     * @return The path of the driver binary
+     * @throws IllegalArgumentException if the browser is not supported
+     */
+    public static String resolve(String browser) {
+        Driver driver = Driver.of(browser);
+        return resolved.computeIfAbsent(driver.name(), key -> {
+            long start = System.nanoTime();
+            String path = findInDriverDir(driver);
+            String source = "driverDir";
+            if (path == null) {
+                path = readResolutionFile(driver);
+                source = "resolution file";
+            }
+            if (path == null) {
+                path = resolveWithWebDriverManager(driver);
+                source = "WebDriverManager";
+                writeResolutionFile(driver, path);
+            }
+            System.setProperty(driver.systemProperty, path);
+            LoggerUtil.info(String.format("Resolved %s from %s in %d ms: %s", driver.binary, source,
+                    (System.nanoTime() - start) / 1_000_000, path));
+            return path;
+        });
+    }
+
+    /**
+     * Drops the resolved driver binary of a browser, so the next {@link #resolve(String)} resolves it again
+     * without using the resolution file.
+     *
+     * @param browser The browser name: chrome, firefox or edge
+     */
+    public static void invalidate(String browser) {
+        Driver driver = Driver.of(browser);
+        resolved.remove(driver.name());
+        System.clearProperty(driver.systemProperty);
+        synchronized (DriverBinaryResolver.class) {
+            Properties properties = loadResolutionFile();
+            if (properties.remove(driver.name()) != null) {
+                storeResolutionFile(properties);
+            }
+        }
+        LoggerUtil.warning(String.format("Dropped the resolved %s.", driver.binary));
+    }
+
+    private static String findInDriverDir(Driver driver) {
+        String driverDir = ReadTestNG.getParameter(Config.DRIVER_DIR);
+        if (driverDir == null || driverDir.isBlank()) {
+            return null;
+        }
+        Path dir = Paths.get(driverDir.trim());
+        try (Stream<Path> files = Files.walk(dir, 3)) {
+            return files.filter(file -> driver.matches(file.getFileName().toString()))
+                    .filter(Files::isExecutable)
+                    .findFirst()
+                    .map(file -> file.toAbsolutePath().toString())
+                    .orElseGet(() -> {
+                        LoggerUtil.warning(String.format("No %s found in driverDir %s.", driver.binary, dir));
+                        return null;
+                    });
+        } catch (IOException e) {
+            LoggerUtil.warning(String.format("Unable to read driverDir %s: %s", dir, e.getMessage()));
+            return null;
+        }
+    }
+
+    private static String readResolutionFile(Driver driver) {
+        String path;
+        synchronized (DriverBinaryResolver.class) {
+            path = loadResolutionFile().getProperty(driver.name());
+        }
+        return path != null && Files.isExecutable(Paths.get(path)) ? path : null;
+    }
+
+    private static void writeResolutionFile(Driver driver, String path) {
+        synchronized (DriverBinaryResolver.class) {
+            Properties properties = loadResolutionFile();
+            properties.setProperty(driver.name(), path);
+            storeResolutionFile(properties);
+        }
+    }
+
+    private static String resolveWithWebDriverManager(Driver driver) {
+        WebDriverManager manager = switch (driver) {
+            case CHROME -> WebDriverManager.chromedriver();
+            case FIREFOX -> WebDriverManager.firefoxdriver();
+            case EDGE -> WebDriverManager.edgedriver();
+        };
+        manager.setup();
+        return manager.getDownloadedDriverPath();
+    }
+
+    private static Properties loadResolutionFile() {
+        Properties properties = new Properties();
+        if (Files.exists(RESOLUTION_FILE)) {
+            try (InputStream in = Files.newInputStream(RESOLUTION_FILE)) {
+                properties.load(in);
+            } catch (IOException e) {
+                LoggerUtil.warning("Unable to read driver resolution file: " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    private static void storeResolutionFile(Properties properties) {
+        try {
+            Files.createDirectories(RESOLUTION_FILE.getParent());
+            try (OutputStream out = Files.newOutputStream(RESOLUTION_FILE)) {
+                properties.store(out, "Driver binaries resolved by sentinel-tests");
+            }
+        } catch (IOException e) {
+            LoggerUtil.warning("Unable to write driver resolution file: " + e.getMessage());
+        }
+    }
+
+    private enum Driver {
+        CHROME("chromedriver", "webdriver.chrome.driver"),
+        FIREFOX("geckodriver", "webdriver.gecko.driver"),
+        EDGE("msedgedriver", "webdriver.edge.driver");
+
+        private final String binary;
+        private final String systemProperty;
+
+        Driver(String binary, String systemProperty) {
+            this.binary = binary;
+            this.systemProperty = systemProperty;
+        }
+
+        static Driver of(String browser) {
+            try {
+                return valueOf(browser.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+            }
+        }
+
+        boolean matches(String fileName) {
+            return fileName.equals(binary) || fileName.equals(binary + ".exe");
+        }
+    }
+}
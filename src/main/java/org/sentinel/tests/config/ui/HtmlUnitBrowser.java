@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.sentinel.tests.base.BaseUIService;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+import org.testng.ITestResult;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-process, headless Java browser for fast runs of page-object logic and flows that need no real
+ * rendering. No browser or driver process is started, so a session is ready in milliseconds on any
+ * machine.
+ *
+ * <p>The mode is selected with {@code browserName=htmlunit}, for local and remote runs alike. The
+ * HtmlUnit driver is not part of the default build; run with the {@code htmlunit} Maven profile,
+ * e.g. {@code mvn test -Phtmlunit}. JavaScript is executed by HtmlUnit's own engine unless the
+ * {@code htmlUnitJavascript} parameter is {@code false}.</p>
+ *
+ * <p>Not every UI test can run without a real browser, e.g. tests that rely on screenshots,
+ * DevTools or scripts HtmlUnit does not support. The "HtmlUnit Compatibility" sheet of the Excel
+ * report lists each UI test run in the mode as:</p>
+ * <ul>
+ *   <li>Compatible - the test passed</li>
+ *   <li>Incompatible - the test failed in HtmlUnit itself or on a command it does not support</li>
+ *   <li>Failed - the test failed on an assertion or element lookup, to be checked in a real browser</li>
+ * </ul>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see WebDriverManager
+ */
+public class HtmlUnitBrowser {
+
+    private static final String BROWSER_NAME = "htmlunit";
+    private static final String DRIVER_CLASS = "org.openqa.selenium.htmlunit.HtmlUnitDriver";
+    private static final String SHEET_NAME = "HtmlUnit Compatibility";
+    private static final String[] HTMLUNIT_PACKAGES = {"org.htmlunit.", "com.gargoylesoftware."};
+    private static final Map<String, String[]> compatibility = new TreeMap<>();
+
+    private HtmlUnitBrowser() {
+    }
+
+    /**
+     * Returns whether the in-process browser is selected.
+     *
+     * @return {@code true} if the {@code browserName} parameter is {@code htmlunit}
+     */
+    public static boolean isSelected() {
+        return BROWSER_NAME.equalsIgnoreCase(ReadTestNG.getParameter(Config.BROWSER_NAME));
+    }
+
+    /**
+     * Starts an in-process HtmlUnit browser.
+     *
+     * @return The driver of the browser
+     * @throws IllegalStateException if the HtmlUnit driver is not on the classpath
+     */
+    static WebDriver launch() {
+        String javascript = ReadTestNG.getParameter(Config.HTMLUNIT_JAVASCRIPT);
+        boolean enableJavascript = javascript == null || javascript.isBlank() || Boolean.parseBoolean(javascript);
+        try {
+            WebDriver driver = (WebDriver) Class.forName(DRIVER_CLASS).getConstructor(boolean.class).newInstance(enableJavascript);
+            LoggerUtil.info(String.format("HtmlUnit browser started, JavaScript %s.", enableJavascript ? "enabled" : "disabled"));
+            return driver;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("HtmlUnit driver is not on the classpath. Run with the htmlunit Maven profile (-Phtmlunit).", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("HtmlUnit browser could not be started: " + e.getTargetException().getMessage(), e.getTargetException());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("HtmlUnit browser could not be started: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Records whether a finished UI test is compatible with the in-process browser. Does nothing
+     * unless the browser is {@link #isSelected() selected}.
+     *
+     * @param result The result of the test
+     */
+    public static void record(ITestResult result) {
+        if (!isSelected() || !(result.getInstance() instanceof BaseUIService)) {
+            return;
+        }
+        String verdict;
+        String reason;
+        Throwable throwable = result.getThrowable();
+        if (result.getStatus() == ITestResult.SUCCESS) {
+            verdict = "Compatible";
+            reason = "";
+        } else if (throwable == null) {
+            verdict = "Skipped";
+            reason = "";
+        } else if (isHtmlUnitFailure(throwable)) {
+            verdict = "Incompatible";
+            reason = throwable.getClass().getSimpleName() + ": " + throwable.getMessage();
+        } else {
+            verdict = result.getStatus() == ITestResult.SKIP ? "Skipped" : "Failed";
+            reason = throwable.getClass().getSimpleName() + ": " + throwable.getMessage();
+        }
+        String test = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        synchronized (compatibility) {
+            compatibility.put(test, new String[]{verdict, String.valueOf(result.getEndMillis() - result.getStartMillis()),
+                    reason.length() > 300 ? reason.substring(0, 300) : reason});
+        }
+    }
+
+    /**
+     * Writes the compatibility of each UI test to the "HtmlUnit Compatibility" sheet of the Excel
+     * report. Nothing is written if no test ran in the in-process browser.
+     */
+    public static void writeReport() {
+        List<Object[]> rows = new ArrayList<>();
+        synchronized (compatibility) {
+            compatibility.forEach((test, entry) -> rows.add(new Object[]{test, entry[0], entry[1], entry[2]}));
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        ExcelUtil.writeReportSheet(SHEET_NAME, List.of(new ReportTable("UI Tests in HtmlUnit",
+                new String[]{"Test", "Compatibility", "Duration (ms)", "Reason"}, rows)));
+    }
+
+    /**
+     * Returns whether a failure was raised by HtmlUnit itself, e.g. a script error, or by a command
+     * or driver interface it does not support, rather than by the test.
+     */
+    private static boolean isHtmlUnitFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof UnsupportedOperationException || cause instanceof UnsupportedCommandException
+                    || cause instanceof ClassCastException) {
+                return true; // e.g. the driver is not TakesScreenshot or HasDevTools
+            }
+            String name = cause.getClass().getName();
+            for (String htmlUnitPackage : HTMLUNIT_PACKAGES) {
+                if (name.startsWith(htmlUnitPackage)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Headless, resource-lean browser profile used when the suite runs in fast mode.
+ *
+ * <p>The profile launches the browser headless with a fixed viewport instead of a maximized
+ * window. It disables the GPU, extensions, background networking, sync, default browser checks
+ * and first-run UI, and optionally images. The same profile is applied to Chrome, Edge and
+ * Firefox through their respective switches and preferences. Remote sessions are requested
+ * headless from the grid.</p>
+ *
+ * <p>Configuration is read from the TestNG parameters:</p>
+ * <ul>
+ *   <li>{@code fastMode} - {@code true} to use the lean profile (default false)</li>
+ *   <li>{@code fastModeViewport} - viewport as WIDTHxHEIGHT (default 1366x768)</li>
+ *   <li>{@code fastModeBlockImages} - {@code true} to not load images (default false)</li>
+ * </ul>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see BrowserManager
+ * @see BrowserFootprint
+ */
+public class LeanBrowserProfile {
+
+    private static final Dimension DEFAULT_VIEWPORT = new Dimension(1366, 768);
+
+    private LeanBrowserProfile() {
+    }
+
+    /**
+     * Returns whether the suite runs in fast mode.
+     *
+     * @return {@code true} if browsers should be launched with the lean profile
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ReadTestNG.getParameter(Config.FAST_MODE));
+    }
+
+    /**
+     * Returns the fixed viewport of fast mode.
+     *
+     * @return The configured viewport, or 1366x768 if it is missing or invalid
+     */
+    public static Dimension getViewport() {
+        String value = ReadTestNG.getParameter(Config.FAST_MODE_VIEWPORT);
+        if (value == null || value.isBlank()) {
+            return DEFAULT_VIEWPORT;
+        }
+        String[] size = value.trim().toLowerCase().split("x");
+        try {
+            return new Dimension(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            LoggerUtil.warning(String.format("Invalid %s parameter: %s", Config.FAST_MODE_VIEWPORT, value));
+            return DEFAULT_VIEWPORT;
+        }
+    }
+
+    /**
+     * Applies the lean profile to Chrome or Edge.
+     *
+     * @param options The Chrome or Edge options
+     */
+    public static void apply(ChromiumOptions<?> options) {
+        Dimension viewport = getViewport();
+        options.addArguments(
+                "--headless=new",
+                String.format("--window-size=%d,%d", viewport.getWidth(), viewport.getHeight()),
+                "--disable-gpu",
+                "--disable-extensions",
+                "--disable-background-networking",
+                "--disable-sync",
+                "--disable-component-update",
+                "--disable-default-apps",
+                "--no-first-run",
+                "--no-default-browser-check",
+                "--mute-audio");
+        if (isImageBlockingEnabled()) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+    }
+
+    /**
+     * Applies the lean profile to Firefox.
+     *
+     * @param options The Firefox options
+     */
+    public static void apply(FirefoxOptions options) {
+        Dimension viewport = getViewport();
+        options.addArguments("-headless", "--width=" + viewport.getWidth(), "--height=" + viewport.getHeight());
+        Map<String, Object> preferences = new HashMap<>();
+        preferences.put("layers.acceleration.disabled", true);
+        preferences.put("extensions.update.enabled", false);
+        preferences.put("app.update.auto", false);
+        preferences.put("network.prefetch-next", false);
+        preferences.put("network.dns.disablePrefetch", true);
+        preferences.put("browser.safebrowsing.malware.enabled", false);
+        preferences.put("browser.safebrowsing.phishing.enabled", false);
+        preferences.put("identity.fxaccounts.enabled", false);
+        preferences.put("datareporting.policy.dataSubmissionEnabled", false);
+        preferences.put("toolkit.telemetry.reporter.enabled", false);
+        preferences.put("browser.shell.checkDefaultBrowser", false);
+        preferences.put("browser.startup.homepage_override.mstone", "ignore");
+        preferences.put("startup.homepage_welcome_url", "about:blank");
+        preferences.put("media.autoplay.default", 5);
+        if (isImageBlockingEnabled()) {
+            preferences.put("permissions.default.image", 2);
+        }
+        preferences.forEach(options::addPreference);
+    }
+
+    /**
+     * Requests a headless session from the remote grid.
+     *
+     * @param capabilities The capabilities of the remote session
+     */
+    public static void apply(DesiredCapabilities capabilities) {
+        capabilities.setCapability("headless", true);
+    }
+
+    /**
+     * Returns the name of the profile browsers are launched with, as shown in reports.
+     *
+     * @return "Lean" in fast mode, otherwise "Default"
+     */
+    public static String getName() {
+        return isEnabled() ? "Lean" : "Default";
+    }
+
+    private static boolean isImageBlockingEnabled() {
+        return Boolean.parseBoolean(ReadTestNG.getParameter(Config.FAST_MODE_BLOCK_IMAGES));
+    }
+}
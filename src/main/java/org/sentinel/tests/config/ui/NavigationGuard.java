@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import org.sentinel.tests.config.CircuitBreaker;
+import org.sentinel.tests.ui.utils.WebVitals;
+import org.sentinel.tests.utils.testng.CallTimings;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebDriver decorator that guards page navigation with the {@link CircuitBreaker} of the target host.
+ *
+ * <p>Calls to {@code driver.get(url)} and {@code driver.navigate().to(url)} are checked against the
+ * breaker before the browser is asked to load the page. Once the application under test has been
+ * unreachable for the configured number of navigations, further navigations fail fast with an
+ * environment-unavailable skip instead of waiting for the browser's network error.</p>
+ *
+ * <p>The duration of every navigation is recorded in {@link CallTimings} as step
+ * {@code NAVIGATE <path>}, where it is checked against the test's latency budget. The loaded page
+ * is then measured by {@link WebVitals} under the same step.</p>
+ *
+ * <p>All other WebDriver calls are passed through unchanged.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see CircuitBreaker
+ * @see org.openqa.selenium.support.decorators.WebDriverDecorator
+ */
+public class NavigationGuard extends WebDriverDecorator<WebDriver> {
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        String url = navigationUrl(target, method, args);
+        if (url == null) {
+            return super.call(target, method, args);
+        }
+
+        CircuitBreaker breaker = CircuitBreaker.forUrl(url);
+        breaker.beforeCall();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = super.call(target, method, args);
+            breaker.onSuccess();
+        } catch (InvocationTargetException e) {
+            breaker.onFailure(e.getTargetException());
+            throw e;
+        }
+
+        URI uri = URI.create(url);
+        String step = "NAVIGATE " + (uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+        CallTimings.record(step, uri.getHost(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        WebVitals.capture(getDecoratedDriver().getOriginal(), step);
+        return result;
+    }
+
+    /**
+     * Extracts the URL of a navigation call.
+     *
+     * @param target The decorated object the call is made on
+     * @param method The method being called
+     * @param args   The call arguments
+     * @return The URL being navigated to, or null if the call is not a navigation
+     */
+    private static String navigationUrl(Decorated<?> target, Method method, Object[] args) {
+        if (args == null || args.length != 1) {
+            return null;
+        }
+        boolean isGet = target.getOriginal() instanceof WebDriver && method.getName().equals("get");
+        boolean isNavigateTo = target.getOriginal() instanceof WebDriver.Navigation && method.getName().equals("to");
+        if (!isGet && !isNavigateTo) {
+            return null;
+        }
+        if (args[0] instanceof URL url) {
+            return url.toString();
+        }
+        return args[0] instanceof String url && url.contains("://") ? url : null;
+    }
+}
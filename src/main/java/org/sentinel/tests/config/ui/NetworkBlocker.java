@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Blocks third-party and heavy requests of local browser sessions through DevTools network
+ * interception, and records what each page load fetched and what was blocked.
+ *
+ * <p>The {@code blockNetwork} parameter selects the mode:</p>
+ * <ul>
+ *   <li>{@code true} - requests matching a {@code networkBlocklist} pattern fail with
+ *       {@code BlockedByClient}, unless they also match a {@code networkAllowlist} pattern</li>
+ *   <li>{@code measure} - nothing is blocked; page loads are recorded as a baseline and the sizes
+ *       of all loaded resources are remembered</li>
+ *   <li>{@code false} - sessions are left as they are</li>
+ * </ul>
+ *
+ * <p>Patterns are comma separated and match the whole URL, with {@code *} matching any number of
+ * characters and {@code ?} exactly one, as in DevTools. Only requests matching the blocklist are
+ * paused by the browser, so other requests are not slowed down.</p>
+ *
+ * <p>Interception needs a Chromium browser (Chrome or Edge) launched locally. Other browsers
+ * run unchanged and a warning is logged. With {@code browserIsolation} {@code tab} or
+ * {@code window}, interception moves to each new tab or window a test is run in, see
+ * {@link BrowserContext}.</p>
+ *
+ * <p>Requests and bytes loaded, and requests blocked, are written per page to the
+ * "Network Blocking" sheet of the Excel report. A blocked response is never downloaded, so the
+ * bytes it saved are estimated from the size it had in an earlier {@code measure} run. These sizes
+ * are kept in {@code reports/network-history/resource-sizes.properties} across runs.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see BrowserManager
+ */
+public class NetworkBlocker {
+
+    private static final String SHEET_NAME = "Network Blocking";
+    private static final String MEASURE = "measure";
+    private static final Path SIZES_FILE = Paths.get("reports", "network-history", "resource-sizes.properties");
+    private static final double BYTES_PER_KB = 1024.0;
+    private static final Map<String, PageStats> pages = new TreeMap<>();
+    private static final Map<String, Long> resourceSizes = loadSizesFile();
+
+    private NetworkBlocker() {
+    }
+
+    /**
+     * Returns whether browser sessions should be intercepted.
+     *
+     * @return {@code true} if the {@code blockNetwork} parameter is {@code true} or {@code measure}
+     */
+    public static boolean isEnabled() {
+        String mode = ReadTestNG.getParameter(Config.BLOCK_NETWORK);
+        return Boolean.parseBoolean(mode) || MEASURE.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Starts intercepting the requests of a browser session. Sessions of browsers without DevTools
+     * network interception are left as they are.
+     *
+     * @param driver The driver of a local browser
+     */
+    public static void attach(WebDriver driver) {
+        intercept(driver, DevTools::createSessionIfThereIsNotOne);
+    }
+
+    /**
+     * Moves the interception of a browser session to a new tab or window. A DevTools session only
+     * sees the requests of the tab or window it is attached to, and one is attached at a time.
+     * Browsers without DevTools, e.g. remote ones, are left as they are.
+     *
+     * @param driver       The driver of the browser
+     * @param windowHandle The handle of the tab or window to intercept
+     */
+    static void attachContext(WebDriver driver, String windowHandle) {
+        if (!(driver instanceof HasDevTools)) {
+            return;
+        }
+        intercept(driver, devTools -> {
+            devTools.clearListeners();
+            devTools.createSession(windowHandle);
+        });
+    }
+
+    /**
+     * Writes the recorded page loads to the "Network Blocking" sheet of the Excel report and stores
+     * the learned resource sizes. Nothing is written if no page load was recorded.
+     */
+    public static void writeReport() {
+        List<Object[]> rows = new ArrayList<>();
+        synchronized (pages) {
+            pages.forEach((page, stats) -> rows.add(stats.toRow(page)));
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        ExcelUtil.writeReportSheet(SHEET_NAME, List.of(new ReportTable("Per Page Load", new String[]{"Page", "Loads",
+                "Requests per Load", "Loaded KB per Load", "Blocked per Load", "Est. Saved KB per Load",
+                "Blocked Without Known Size per Load"}, rows)));
+        storeSizesFile();
+    }
+
+    /**
+     * Connects a DevTools session to the browser and intercepts the requests of its tab or window.
+     */
+    private static void intercept(WebDriver driver, Consumer<DevTools> connect) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            LoggerUtil.warning("Network blocking needs DevTools and is skipped for: " + driver.getClass().getSimpleName());
+            return;
+        }
+        boolean blocking = Boolean.parseBoolean(ReadTestNG.getParameter(Config.BLOCK_NETWORK));
+        List<String> blocklist = blocking ? patterns(Config.NETWORK_BLOCKLIST) : List.of();
+        List<Pattern> allowlist = patterns(Config.NETWORK_ALLOWLIST).stream().map(NetworkBlocker::toRegex).toList();
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            connect.accept(devTools);
+            new Session(devTools, allowlist).start(blocklist);
+            LoggerUtil.info(String.format("Network %s: %d blocked and %d allowed URL patterns.",
+                    blocking ? "blocking" : "measuring", blocklist.size(), allowlist.size()));
+        } catch (RuntimeException e) {
+            LoggerUtil.warning("Network blocking is not supported by this browser: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns whether a URL matches a pattern list entry.
+     */
+    static boolean matchesAny(String url, List<Pattern> patterns) {
+        return patterns.stream().anyMatch(pattern -> pattern.matcher(url).matches());
+    }
+
+    /**
+     * Converts a DevTools URL pattern to a regular expression.
+     */
+    static Pattern toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static List<String> patterns(String parameter) {
+        String value = ReadTestNG.getParameter(parameter);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(pattern -> !pattern.isEmpty()).toList();
+    }
+
+    /**
+     * Identifies a resource by its URL without query or fragment.
+     */
+    private static String resourceKey(String url) {
+        int end = url.length();
+        for (char separator : new char[]{'?', '#'}) {
+            int index = url.indexOf(separator);
+            end = index >= 0 ? Math.min(end, index) : end;
+        }
+        return url.substring(0, end);
+    }
+
+    private static PageStats statsOf(String page) {
+        synchronized (pages) {
+            return pages.computeIfAbsent(resourceKey(page), k -> new PageStats());
+        }
+    }
+
+    private static Map<String, Long> loadSizesFile() {
+        Map<String, Long> sizes = new ConcurrentHashMap<>();
+        if (Files.exists(SIZES_FILE)) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(SIZES_FILE)) {
+                properties.load(in);
+                properties.forEach((url, bytes) -> sizes.put(String.valueOf(url), Long.parseLong(String.valueOf(bytes))));
+            } catch (IOException | NumberFormatException e) {
+                LoggerUtil.warning("Unable to read resource sizes: " + e.getMessage());
+            }
+        }
+        return sizes;
+    }
+
+    private static void storeSizesFile() {
+        if (resourceSizes.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        resourceSizes.forEach((url, bytes) -> properties.setProperty(url, String.valueOf(bytes)));
+        try {
+            Files.createDirectories(SIZES_FILE.getParent());
+            try (OutputStream out = Files.newOutputStream(SIZES_FILE)) {
+                properties.store(out, "Resource sizes measured by sentinel-tests");
+            }
+        } catch (IOException e) {
+            LoggerUtil.warning("Unable to write resource sizes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Interception state of one browser session. DevTools events are delivered on their own
+     * threads, so the state is thread-safe.
+     */
+    private static class Session {
+        private final DevTools devTools;
+        private final List<Pattern> allowlist;
+        private final Map<String, String> requestUrls = new ConcurrentHashMap<>();
+        private final AtomicReference<PageStats> currentPage = new AtomicReference<>();
+        private String mainFrameId;
+
+        Session(DevTools devTools, List<Pattern> allowlist) {
+            this.devTools = devTools;
+            this.allowlist = allowlist;
+        }
+
+        void start(List<String> blocklist) {
+            Map<String, Object> frameTree = devTools.send(new Command<>("Page.getFrameTree", Map.of(), Json.MAP_TYPE));
+            mainFrameId = String.valueOf(((Map<?, ?>) ((Map<?, ?>) frameTree.get("frameTree")).get("frame")).get("id"));
+
+            devTools.addListener(event("Network.requestWillBeSent"), this::onRequest);
+            devTools.addListener(event("Network.loadingFinished"), this::onLoaded);
+            devTools.addListener(event("Network.loadingFailed"), params -> requestUrls.remove(String.valueOf(params.get("requestId"))));
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            if (!blocklist.isEmpty()) {
+                devTools.addListener(event("Fetch.requestPaused"), this::onPaused);
+                devTools.send(new Command<>("Fetch.enable", Map.of("patterns", blocklist.stream()
+                        .map(pattern -> Map.of("urlPattern", pattern, "requestStage", "Request")).toList())));
+            }
+        }
+
+        private void onRequest(Map<String, Object> params) {
+            String requestId = String.valueOf(params.get("requestId"));
+            String url = String.valueOf(((Map<?, ?>) params.get("request")).get("url"));
+            requestUrls.put(requestId, url);
+            // A navigation of the main frame starts a new page load
+            if ("Document".equals(params.get("type")) && mainFrameId.equals(params.get("frameId"))) {
+                PageStats page = statsOf(url);
+                page.loads.incrementAndGet();
+                currentPage.set(page);
+            }
+        }
+
+        private void onLoaded(Map<String, Object> params) {
+            String url = requestUrls.remove(String.valueOf(params.get("requestId")));
+            long bytes = ((Number) params.get("encodedDataLength")).longValue();
+            if (url != null && bytes > 0) {
+                resourceSizes.put(resourceKey(url), bytes);
+            }
+            PageStats page = currentPage.get();
+            if (page != null) {
+                page.requests.incrementAndGet();
+                page.loadedBytes.addAndGet(bytes);
+            }
+        }
+
+        private void onPaused(Map<String, Object> params) {
+            String requestId = String.valueOf(params.get("requestId"));
+            String url = String.valueOf(((Map<?, ?>) params.get("request")).get("url"));
+            if (matchesAny(url, allowlist)) {
+                devTools.send(new Command<>("Fetch.continueRequest", Map.of("requestId", requestId)));
+                return;
+            }
+            devTools.send(new Command<>("Fetch.failRequest", Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+            PageStats page = currentPage.get();
+            if (page != null) {
+                page.blocked.incrementAndGet();
+                Long knownBytes = resourceSizes.get(resourceKey(url));
+                if (knownBytes != null) {
+                    page.savedBytes.addAndGet(knownBytes);
+                } else {
+                    page.blockedUnknown.incrementAndGet();
+                }
+            }
+        }
+
+        private static Event<Map<String, Object>> event(String method) {
+            return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+        }
+    }
+
+    /**
+     * Requests of all loads of one page.
+     */
+    private static class PageStats {
+        private final AtomicLong loads = new AtomicLong();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong loadedBytes = new AtomicLong();
+        private final AtomicLong blocked = new AtomicLong();
+        private final AtomicLong savedBytes = new AtomicLong();
+        private final AtomicLong blockedUnknown = new AtomicLong();
+
+        Object[] toRow(String page) {
+            long count = Math.max(1, loads.get());
+            return new Object[]{page, loads.get(),
+                    String.format("%.1f", (double) requests.get() / count),
+                    String.format("%.1f", loadedBytes.get() / BYTES_PER_KB / count),
+                    String.format("%.1f", (double) blocked.get() / count),
+                    String.format("%.1f", savedBytes.get() / BYTES_PER_KB / count),
+                    String.format("%.1f", (double) blockedUnknown.get() / count)};
+        }
+    }
+}
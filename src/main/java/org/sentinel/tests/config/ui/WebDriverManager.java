@@ -10,19 +10,33 @@ import org.sentinel.tests.constants.Config;
 import org.sentinel.tests.utils.log.LoggerUtil;
 import org.sentinel.tests.utils.testng.ReadTestNG;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
  * Manages WebDriver instances in a thread-safe manner for browser automation.
  * This class provides functionality to create and manage WebDriver sessions
  * for both local and remote browser instances using ThreadLocal storage.
  * <p>
- * The class implements the Singleton pattern with double-checked locking
- * to ensure thread safety when creating WebDriver instances.
+ * Drivers and remote session ids are kept per thread, so parallel tests launch
+ * their browsers concurrently and never see each other's session.
  * <p>
  * Key features:
  * - Thread-safe WebDriver management
  * - Support for both local and remote browser sessions
  * - Automatic resource cleanup
  * - Session tracking for remote executions
+ * - Optional reuse of browser sessions across tests through {@link WebDriverPool}
+ * - Optional isolation of tests in tabs or windows of one long-lived browser per thread through {@link BrowserContext}
+ * - Fail-fast navigation through {@link NavigationGuard} when the application is unreachable
+ * - Optional timing of every WebDriver command through {@link CommandTimer}
+ * - An in-process {@link HtmlUnitBrowser} for browserless runs
+ * - An optional cap on the browsers of each type in use at the same time, e.g. by the combinations
+ *   of a {@link org.sentinel.tests.utils.testng.BrowserMatrix}, set by the {@code browserConcurrency} parameter
  *
  * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
  * @version 1.0
@@ -30,7 +44,13 @@ import org.sentinel.tests.utils.testng.ReadTestNG;
 public class WebDriverManager {
 
     private static ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
-    private static String sessionId = null;
+    private static ThreadLocal<WebDriver> browserThreadLocal = new ThreadLocal<>();
+    private static ThreadLocal<WebDriverPool.PooledDriver> pooledThreadLocal = new ThreadLocal<>();
+    private static ThreadLocal<String> sessionIdThreadLocal = new ThreadLocal<>();
+    private static ThreadLocal<WebDriverPool> poolThreadLocal = new ThreadLocal<>();
+    private static ThreadLocal<Semaphore> browserSlotThreadLocal = new ThreadLocal<>();
+    private static final Map<String, Semaphore> browserSlots = new ConcurrentHashMap<>();
+    private static volatile Supplier<WebDriver> browserLauncher = WebDriverManager::launchBrowser;
 
     private WebDriverManager() {
 
@@ -38,42 +58,150 @@ public class WebDriverManager {
 
     /**
      * Gets or creates a WebDriver instance using thread-local storage to ensure thread safety.
-     * Uses double-checked locking pattern to prevent race conditions during driver initialization.
+     * Each thread only ever creates its own driver, so browsers of parallel tests are launched
+     * concurrently without locking.
      * The driver type (remote or local) is determined by the "run_on" parameter from TestNG configuration.
+     * When the {@link WebDriverPool} is enabled, a pooled browser is leased instead of launching a new one.
+     * When {@link BrowserContext} isolation is enabled, a new tab or window of the browser of the thread is
+     * opened instead.
+     * The returned driver is decorated with {@link NavigationGuard} so that navigation to an unreachable
+     * host is short-circuited by its circuit breaker, and with {@link CommandTimer} when commands are timed.
      *
      * @return WebDriver instance for the current thread
      * @throws IllegalArgumentException if the run_on parameter has an unsupported value
      */
     public static WebDriver getDriverInstance() {
         if (driverThreadLocal.get() == null) {
-            synchronized (WebDriverManager.class) { // Prevent race conditions
-                if (driverThreadLocal.get() == null) {// Double-check locking
-                    String runOn = ReadTestNG.getParameter(Config.RUN_ON);
-                    LoggerUtil.info(String.format("Doing setup for %s runs.", runOn));
-                    switch (runOn.toLowerCase()) {
-                        case Config.RUN_ON_REMOTE -> {
-                            LoggerUtil.info("Launching Remote Instance.");
-                            driverThreadLocal.set(BrowserManager.getRemoteBrowser());
-                            sessionId = ((RemoteWebDriver) driverThreadLocal.get()).getSessionId().toString();
-                            LoggerUtil.info(String.format("Session Id: %s", sessionId));
-                        }
-                        case Config.RUN_ON_LOCAL -> {
-                            LoggerUtil.info("Launching Local Instance.");
-                            driverThreadLocal.set(BrowserManager.getLocalBrowser());
-                        }
-                        default -> {
-                            LoggerUtil.warning(String.format("Unsupported run params: %s", runOn));
-                            throw new IllegalArgumentException("Unsupported params: " + runOn);
-                        }
-                    }
+            acquireBrowserSlot();
+            try {
+                if (BrowserContext.isEnabled()) {
+                    WebDriverPool.PooledDriver shared = BrowserContext.open(WebDriverManager::createPooledDriver);
+                    sessionIdThreadLocal.set(shared.sessionId());
+                    browserThreadLocal.set(shared.raw());
+                    driverThreadLocal.set(shared.decorated());
+                } else if (WebDriverPool.isEnabled()) {
+                    Map<String, String> parameters = ReadTestNG.getTestParameters(); // The pool may launch on a background thread
+                    WebDriverPool pool = WebDriverPool.getInstance(
+                            () -> ReadTestNG.withParameters(parameters, WebDriverManager::createPooledDriver));
+                    WebDriverPool.PooledDriver pooled = pool.lease();
+                    sessionIdThreadLocal.set(pooled.sessionId());
+                    poolThreadLocal.set(pool);
+                    pooledThreadLocal.set(pooled);
+                    browserThreadLocal.set(pooled.raw());
+                    driverThreadLocal.set(pooled.decorated());
+                } else {
+                    WebDriver browser = launch();
+                    sessionIdThreadLocal.set(sessionIdOf(browser));
+                    browserThreadLocal.set(browser);
+                    driverThreadLocal.set(decorate(browser));
                 }
+            } catch (RuntimeException e) {
+                releaseBrowserSlot();
+                throw e;
             }
         }
         return driverThreadLocal.get();
     }
 
+    /**
+     * Waits until fewer than {@code browserConcurrency} browsers of the current type are in use by
+     * tests, and takes a slot for the current thread. Does nothing if the parameter is not set.
+     */
+    private static void acquireBrowserSlot() {
+        int concurrency = (int) ReadTestNG.getLongParameter(Config.BROWSER_CONCURRENCY, 0);
+        if (concurrency <= 0) {
+            return;
+        }
+        String browser = String.valueOf(ReadTestNG.getParameter(Config.BROWSER_NAME)).toLowerCase(Locale.ROOT);
+        Semaphore slots = browserSlots.computeIfAbsent(browser, k -> new Semaphore(concurrency, true));
+        long start = System.nanoTime();
+        slots.acquireUninterruptibly();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (waitedMillis > 0) {
+            LoggerUtil.info(String.format("Waited %d ms for a free %s slot.", waitedMillis, browser));
+        }
+        browserSlotThreadLocal.set(slots);
+    }
+
+    private static void releaseBrowserSlot() {
+        Semaphore slots = browserSlotThreadLocal.get();
+        if (slots != null) {
+            browserSlotThreadLocal.remove();
+            slots.release();
+        }
+    }
+
+    /**
+     * Launches a browser for the {@link WebDriverPool}, which may call this from a background thread,
+     * or for a {@link BrowserContext}.
+     */
+    private static WebDriverPool.PooledDriver createPooledDriver() {
+        WebDriver browser = launch();
+        return new WebDriverPool.PooledDriver(browser, decorate(browser), sessionIdOf(browser));
+    }
+
+    /**
+     * Decorates a browser with the {@link NavigationGuard} and, if enabled, the {@link CommandTimer}.
+     * The timer is outermost, so it measures each command as seen by the page objects.
+     */
+    private static WebDriver decorate(WebDriver browser) {
+        WebDriver guarded = new NavigationGuard().decorate(browser);
+        return CommandTimer.isEnabled() ? new CommandTimer().decorate(guarded) : guarded;
+    }
+
+    /**
+     * Launches a browser and records its launch time in the {@link BrowserFootprint}.
+     */
+    private static WebDriver launch() {
+        long start = System.nanoTime();
+        WebDriver browser = browserLauncher.get();
+        BrowserFootprint.recordLaunch((System.nanoTime() - start) / 1_000_000);
+        return browser;
+    }
+
+    /**
+     * Launches a local or remote browser as selected by the "run_on" parameter, or the in-process
+     * {@link HtmlUnitBrowser} if {@code browserName} is {@code htmlunit}.
+     */
+    private static WebDriver launchBrowser() {
+        if (HtmlUnitBrowser.isSelected()) {
+            LoggerUtil.info("Launching In-Process HtmlUnit Instance.");
+            return HtmlUnitBrowser.launch();
+        }
+        String runOn = ReadTestNG.getParameter(Config.RUN_ON);
+        LoggerUtil.info(String.format("Doing setup for %s runs.", runOn));
+        switch (runOn.toLowerCase()) {
+            case Config.RUN_ON_REMOTE -> {
+                LoggerUtil.info("Launching Remote Instance.");
+                return BrowserManager.getRemoteBrowser();
+            }
+            case Config.RUN_ON_LOCAL -> {
+                LoggerUtil.info("Launching Local Instance.");
+                return BrowserManager.getLocalBrowser();
+            }
+            default -> {
+                LoggerUtil.warning(String.format("Unsupported run params: %s", runOn));
+                throw new IllegalArgumentException("Unsupported params: " + runOn);
+            }
+        }
+    }
+
+    /**
+     * Returns the session id of a remote browser, whose video is captured after the session ends.
+     */
+    private static String sessionIdOf(WebDriver browser) {
+        if (!(browser instanceof RemoteWebDriver remoteDriver)
+                || !Config.RUN_ON_REMOTE.equalsIgnoreCase(ReadTestNG.getParameter(Config.RUN_ON))) {
+            return null;
+        }
+        String id = remoteDriver.getSessionId().toString();
+        LoggerUtil.info(String.format("Session Id: %s", id));
+        return id;
+    }
+
     /**
      * Quits the WebDriver instance associated with the current thread and performs cleanup.
+     * A browser shared by {@link BrowserContext} isolation is quit as well.
      * This method ensures proper closure of browser sessions and prevents memory leaks
      * by removing the thread-local reference.
      * <p>
@@ -92,17 +220,78 @@ public class WebDriverManager {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
             try {
-                driver.quit();
+                if (BrowserContext.isOpen()) {
+                    BrowserContext.quit();
+                } else {
+                    driver.quit();
+                }
                 LoggerUtil.info(String.format("Thread %s - WebDriver Closed.", Thread.currentThread().getId()));
             } catch (Exception e) {
                 LoggerUtil.error("Error while quitting WebDriver: " + e.getMessage());
             } finally {
                 driverThreadLocal.remove(); // Clean up to prevent memory leaks
+                browserThreadLocal.remove();
+                releaseBrowserSlot();
             }
         }
     }
 
+    /**
+     * Ends the use of the WebDriver instance associated with the current thread. When the
+     * {@link WebDriverPool} is enabled, the browser is reset and returned to the pool for the next
+     * test, unless it has to be retired. With {@link BrowserContext} isolation, the tab or window of the
+     * test is closed and the browser stays open for the next test of the thread. Otherwise, the browser
+     * is quit. The memory used by the
+     * browser is sampled for the {@link BrowserFootprint} first.
+     *
+     * @param healthy {@code false} if the test ended with a WebDriver error, so the browser must not be reused
+     * @return {@code true} if the browser session has ended, {@code false} if it was returned to the pool
+     */
+    public static boolean releaseDriver(boolean healthy) {
+        if (browserThreadLocal.get() != null) {
+            BrowserFootprint.recordMemory(browserThreadLocal.get());
+        }
+        if (BrowserContext.isOpen()) {
+            try {
+                return BrowserContext.close(healthy);
+            } finally {
+                releaseBrowserSlot();
+                browserThreadLocal.remove();
+                driverThreadLocal.remove();
+            }
+        }
+        WebDriverPool.PooledDriver pooled = pooledThreadLocal.get();
+        if (pooled == null) {
+            quitDriver();
+            return true;
+        }
+        try {
+            return poolThreadLocal.get().release(pooled, healthy);
+        } finally {
+            releaseBrowserSlot();
+            poolThreadLocal.remove();
+            pooledThreadLocal.remove();
+            browserThreadLocal.remove();
+            driverThreadLocal.remove();
+        }
+    }
+
+    /**
+     * Returns the remote session id of the browser last used by the current thread. It stays
+     * available after the driver has been quit, so the session video can be fetched.
+     *
+     * @return The session id, or null for local browsers
+     */
     public static String getSessionId() {
-        return sessionId;
+        return sessionIdThreadLocal.get();
+    }
+
+    /**
+     * Replaces the way browsers are launched, e.g. with a stub in tests.
+     *
+     * @param launcher Launches a new browser, or null to restore launching by the "run_on" parameter
+     */
+    static void setBrowserLauncher(Supplier<WebDriver> launcher) {
+        browserLauncher = launcher == null ? WebDriverManager::launchBrowser : launcher;
     }
 }
\ No newline at end of file
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.insights.VideoQueue;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of browser sessions that are reused across test methods instead of launching a new
+ * browser for every test.
+ *
+ * <p>A test leases a session in {@code tearUp} and returns it in {@code tearDown}. Before a session
+ * is handed out again it is reset: extra windows are closed, cookies as well as the local and
+ * session storage of the current page are cleared and the remaining window is navigated to
+ * {@code about:blank}. A session is
+ * health-checked before every lease and retired instead of reused when:</p>
+ * <ul>
+ *   <li>it has served the configured number of tests</li>
+ *   <li>the test ended with a WebDriver error</li>
+ *   <li>the health check or the reset fails</li>
+ * </ul>
+ *
+ * <p>Idle sessions are launched in the background so that a warm browser is usually ready when the
+ * next test starts. Retired sessions are quit in the background as well.</p>
+ *
+ * <p>The video of a remote session covers every test it served. It is queued with the
+ * {@link VideoQueue} when the session ends: in {@code tearDown} of the last test when the session is
+ * retired on release, in the setup of the next test when it fails its health check, and at suite
+ * end for idle sessions. The video is attached to the Allure test or fixture running at that point.</p>
+ *
+ * <p>Each browser, platform and version has a pool of its own, so the combinations of a
+ * {@link org.sentinel.tests.utils.testng.BrowserMatrix} never lease each other's sessions.</p>
+ *
+ * <p>Configuration is read from the TestNG parameters:</p>
+ * <ul>
+ *   <li>{@code driverPool} - {@code true} to enable the pool (default false)</li>
+ *   <li>{@code driverPoolMaxUses} - tests served by a session before it is retired (default 10)</li>
+ *   <li>{@code driverPoolWarmSize} - idle sessions to keep launched in advance (default 1)</li>
+ * </ul>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see WebDriverManager
+ */
+public class WebDriverPool {
+
+    private static final int DEFAULT_MAX_USES = 10;
+    private static final int DEFAULT_WARM_SIZE = 1;
+    private static final long HEALTH_CHECK_TIMEOUT_SECONDS = 5;
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {} try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private static final Map<String, WebDriverPool> instances = new HashMap<>();
+
+    private final Supplier<PooledDriver> factory;
+    private final int maxUses;
+    private final int warmSize;
+    private final Deque<PooledDriver> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger warming = new AtomicInteger();
+    private final ExecutorService background = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "webdriver-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean shutdown;
+
+    WebDriverPool(Supplier<PooledDriver> factory, int maxUses, int warmSize) {
+        this.factory = factory;
+        this.maxUses = maxUses;
+        this.warmSize = warmSize;
+    }
+
+    /**
+     * Returns whether the pool is enabled by the {@code driverPool} parameter.
+     *
+     * @return {@code true} if browser sessions should be pooled
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ReadTestNG.getParameter(Config.DRIVER_POOL));
+    }
+
+    /**
+     * Returns the pool shared by all tests of the current browser, platform and version, creating it
+     * on first use.
+     *
+     * @param factory Creates a new session when no idle one is available
+     * @return The shared pool
+     */
+    static synchronized WebDriverPool getInstance(Supplier<PooledDriver> factory) {
+        String key = String.join("|", String.valueOf(ReadTestNG.getParameter(Config.BROWSER_NAME)),
+                String.valueOf(ReadTestNG.getParameter(Config.PLATFORM)), String.valueOf(ReadTestNG.getParameter(Config.BROWSER_VERSION)));
+        return instances.computeIfAbsent(key, k -> new WebDriverPool(factory,
+                (int) Math.max(1, ReadTestNG.getLongParameter(Config.DRIVER_POOL_MAX_USES, DEFAULT_MAX_USES)),
+                (int) Math.max(1, ReadTestNG.getLongParameter(Config.DRIVER_POOL_WARM_SIZE, DEFAULT_WARM_SIZE))));
+    }
+
+    /**
+     * Quits all idle sessions of the shared pools. Leased sessions are quit when they are returned.
+     */
+    public static synchronized void shutdownInstance() {
+        instances.values().forEach(WebDriverPool::shutdown);
+        instances.clear();
+    }
+
+    /**
+     * Leases a healthy session, launching a new one if no idle session is available.
+     * Starts warming a replacement in the background.
+     *
+     * @return The leased session
+     */
+    PooledDriver lease() {
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isHealthy(pooled)) {
+                LoggerUtil.info(String.format("Reusing pooled browser session %s (use %d of %d).", pooled.sessionId(), pooled.uses() + 1, maxUses));
+                break;
+            }
+            LoggerUtil.warning(String.format("Pooled browser session %s failed its health check. Retiring it.", pooled.sessionId()));
+            retire(pooled);
+            queueVideo(pooled);
+        }
+        if (pooled == null) {
+            pooled = factory.get();
+        }
+        pooled.markUsed();
+        warmUp();
+        return pooled;
+    }
+
+    /**
+     * Returns a session to the pool, or retires it if it is worn out, broken or the pool is shut down.
+     *
+     * @param pooled  The leased session
+     * @param healthy {@code false} if the test ended with a WebDriver error
+     * @return {@code true} if the session was retired and has ended
+     */
+    boolean release(PooledDriver pooled, boolean healthy) {
+        if (shutdown || !healthy || pooled.uses() >= maxUses || !reset(pooled)) {
+            LoggerUtil.info(String.format("Retiring browser session %s after %d uses.", pooled.sessionId(), pooled.uses()));
+            quit(pooled);
+            return true;
+        }
+        idle.addFirst(pooled); // Most recently used first, so surplus sessions age out
+        return false;
+    }
+
+    /**
+     * Quits all idle sessions and stops warming new ones.
+     */
+    void shutdown() {
+        shutdown = true;
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            quit(pooled);
+            queueVideo(pooled);
+        }
+        background.shutdown();
+    }
+
+    /**
+     * Launches idle sessions in the background until the warm size is reached.
+     */
+    private void warmUp() {
+        while (!shutdown && idle.size() + warming.get() < warmSize) {
+            warming.incrementAndGet();
+            CompletableFuture.runAsync(() -> {
+                try {
+                    PooledDriver warm = factory.get();
+                    if (shutdown) {
+                        quit(warm);
+                    } else {
+                        idle.addLast(warm);
+                        LoggerUtil.info(String.format("Warm browser session %s ready.", warm.sessionId()));
+                    }
+                } catch (RuntimeException e) {
+                    LoggerUtil.warning("Failed to pre-launch a browser session: " + e.getMessage());
+                } finally {
+                    warming.decrementAndGet();
+                }
+            }, background);
+        }
+    }
+
+    private boolean isHealthy(PooledDriver pooled) {
+        try {
+            CompletableFuture.supplyAsync(() -> pooled.raw().getWindowHandles(), background)
+                    .get(HEALTH_CHECK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Resets a session to a clean state for the next test.
+     *
+     * @return {@code false} if the session could not be reset
+     */
+    private boolean reset(PooledDriver pooled) {
+        WebDriver raw = pooled.raw();
+        try {
+            List<String> handles = new ArrayList<>(raw.getWindowHandles());
+            for (String handle : handles.subList(1, handles.size())) {
+                raw.switchTo().window(handle).close();
+            }
+            raw.switchTo().window(handles.get(0));
+            ((JavascriptExecutor) raw).executeScript(CLEAR_STORAGE_SCRIPT);
+            raw.manage().deleteAllCookies();
+            if (raw instanceof ChromiumDriver chromium) {
+                // deleteAllCookies only covers the current domain
+                chromium.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            }
+            raw.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            LoggerUtil.warning(String.format("Failed to reset browser session %s: %s", pooled.sessionId(), e.getMessage()));
+            return false;
+        }
+    }
+
+    private void retire(PooledDriver pooled) {
+        background.execute(() -> quit(pooled));
+    }
+
+    private static void quit(PooledDriver pooled) {
+        try {
+            pooled.raw().quit();
+        } catch (RuntimeException e) {
+            LoggerUtil.error(String.format("Error while quitting pooled browser session %s: %s", pooled.sessionId(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Queues the video of a remote session that ended outside a test's {@code tearDown}. Sessions
+     * that never served a test, e.g. unused warm sessions, have no video worth fetching.
+     *
+     * @param pooled The session that was quit
+     */
+    static void queueVideo(PooledDriver pooled) {
+        if (pooled.sessionId() != null && pooled.uses() > 0) {
+            VideoQueue.enqueue(pooled.sessionId());
+        }
+    }
+
+    /**
+     * A pooled browser session.
+     */
+    static final class PooledDriver {
+        private final WebDriver raw;
+        private final WebDriver decorated;
+        private final String sessionId;
+        private int uses;
+
+        /**
+         * @param raw       The undecorated driver, used for resets and health checks
+         * @param decorated The driver handed to tests
+         * @param sessionId The remote session id, or null for local browsers
+         */
+        PooledDriver(WebDriver raw, WebDriver decorated, String sessionId) {
+            this.raw = raw;
+            this.decorated = decorated;
+            this.sessionId = sessionId;
+        }
+
+        WebDriver raw() {
+            return raw;
+        }
+
+        WebDriver decorated() {
+            return decorated;
+        }
+
+        String sessionId() {
+            return sessionId;
+        }
+
+        int uses() {
+            return uses;
+        }
+
+        void markUsed() {
+            uses++;
+        }
+    }
+}
@@ -12,7 +12,44 @@ public class Config {
     public static final String RUN_ON_REMOTE="remote";
     public static final String MAX_RETRY_COUNT="maxRetryCount";
     public static final String TAKE_SNAP_ON_FAILURE="takeSnapOnFailure";
+    public static final String SCREENSHOT_FORMAT="screenshotFormat";
+    public static final String SCREENSHOT_SCALE="screenshotScale";
+    public static final String SCREENSHOT_QUALITY="screenshotQuality";
+    public static final String VIDEO_TIMEOUT_SECONDS="videoTimeoutSeconds";
+    public static final String VIDEO_DOWNLOAD_CONCURRENCY="videoDownloadConcurrency";
     public static final String TEST_CASES_RESULT_MAP="testCasesResultMap";
+    public static final String BANDWIDTH_TOP_N="bandwidthTopN";
+    public static final String CIRCUIT_BREAKER_THRESHOLD="circuitBreakerThreshold";
+    public static final String CIRCUIT_BREAKER_PROBE_SECONDS="circuitBreakerProbeSeconds";
+    public static final String BASE_URI="baseURI";
+    public static final String BASE_URIS="baseURIs";
+    public static final String REPLAY_LOG="replayLog";
+    public static final String REPLAY_CONCURRENCY="replayConcurrency";
+    public static final String REPLAY_SPEED="replaySpeed";
+    public static final String REUSE_CONNECTIONS="reuseConnections";
+    public static final String DRIVER_POOL="driverPool";
+    public static final String DRIVER_POOL_MAX_USES="driverPoolMaxUses";
+    public static final String DRIVER_POOL_WARM_SIZE="driverPoolWarmSize";
+    public static final String BROWSER_ISOLATION="browserIsolation";
+    public static final String DRIVER_DIR="driverDir";
+    public static final String FAST_MODE="fastMode";
+    public static final String FAST_MODE_VIEWPORT="fastModeViewport";
+    public static final String FAST_MODE_BLOCK_IMAGES="fastModeBlockImages";
+    public static final String WAIT_TIMEOUT_SECONDS="waitTimeoutSeconds";
+    public static final String PROFILE_LOCATORS="profileLocators";
+    public static final String OPTIMIZE_LOCATORS="optimizeLocators";
+    public static final String SLOW_LOCATOR_MILLIS="slowLocatorMillis";
+    public static final String BLOCK_NETWORK="blockNetwork";
+    public static final String NETWORK_BLOCKLIST="networkBlocklist";
+    public static final String NETWORK_ALLOWLIST="networkAllowlist";
+    public static final String SESSION_STATE_TTL_MINUTES="sessionStateTtlMinutes";
+    public static final String WEB_VITALS="webVitals";
+    public static final String WEB_VITALS_BUDGET="webVitalsBudget";
+    public static final String TIME_COMMANDS="timeCommands";
+    public static final String BROWSER_MATRIX="browserMatrix";
+    public static final String PLATFORM_MATRIX="platformMatrix";
+    public static final String BROWSER_CONCURRENCY="browserConcurrency";
+    public static final String HTMLUNIT_JAVASCRIPT="htmlUnitJavascript";
 
     //Desired Capabilities constants.
     public static final String PLATFORM = "platform";
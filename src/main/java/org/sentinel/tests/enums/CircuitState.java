@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.enums;
+
+/**
+ * Enumeration representing the state of a per-host circuit breaker.
+ *
+ * <ul>
+ *   <li>{@code CLOSED} - Calls flow normally and connection failures are counted</li>
+ *   <li>{@code OPEN} - The host is considered unavailable and calls are short-circuited</li>
+ *   <li>{@code HALF_OPEN} - A recovery probe succeeded and a single trial call is allowed through</li>
+ * </ul>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
@@ -7,10 +7,11 @@ package org.sentinel.tests.enums;
 /**
  * Enumeration representing the status of a test execution.
  * 
- * <p>This enum provides two possible states for test results:</p>
+ * <p>This enum provides three possible states for test results:</p>
  * <ul>
  *   <li>{@code PASS} - Indicates that the test was successful</li>
  *   <li>{@code FAIL} - Indicates that the test has failed</li>
+ *   <li>{@code SLOW} - Indicates that the test was successful but exceeded its latency budget</li>
  * </ul>
  *
  * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
@@ -18,5 +19,6 @@ package org.sentinel.tests.enums;
  */
 public enum TestStatus {
     PASS,
-    FAIL
+    FAIL,
+    SLOW
 }
@@ -3,7 +3,10 @@ package org.sentinel.tests.ui.pom;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import org.sentinel.tests.ui.utils.CachingElementLocatorFactory;
+import org.sentinel.tests.ui.utils.DomSnapshot;
+import org.sentinel.tests.ui.utils.Wait;
+import org.sentinel.tests.ui.utils.WebVitals;
 import org.sentinel.tests.utils.log.LoggerUtil;
 
 /**
@@ -12,7 +15,8 @@ import org.sentinel.tests.utils.log.LoggerUtil;
  * and login button.
  *
  * <p>It uses the Page Object Model (POM) design pattern and Selenium's PageFactory
- * for initializing web elements.</p>
+ * for initializing web elements. Elements are looked up once per page instance through
+ * {@link CachingElementLocatorFactory} and waited for through {@link Wait}.</p>
  *
  * <p>Annotations:</p>
  * <ul>
@@ -30,6 +34,7 @@ import org.sentinel.tests.utils.log.LoggerUtil;
  *   <li>{@link #enterPassword(String)}: Clears and enters the provided password into the password input field.</li>
  *   <li>{@link #isDisplayedLoginButton()}: Checks if the login button is displayed.</li>
  *   <li>{@link #clickOnLoginButton()}: Clicks on the login button.</li>
+ *   <li>{@link #snapshot()}: Captures the state of all elements of the page in one call.</li>
  * </ul>
  *
  * <p>Constructor:</p>
@@ -40,6 +45,7 @@ import org.sentinel.tests.utils.log.LoggerUtil;
  * <p>Dependencies:</p>
  * <ul>
  *   <li>LoggerUtil: Used for logging information during method execution.</li>
+ *   <li>Wait: Used for waiting until elements are visible or clickable.</li>
  *   <li>WebDriver: Selenium WebDriver instance for interacting with the browser.</li>
  * </ul>
  *
@@ -78,12 +84,13 @@ public class LoginPage {
     /**
      * Constructor for the LoginPage class.
      * Initializes the web elements on the page using the provided WebDriver instance.
+     * Resolved elements are cached for the lifetime of the page object.
      *
      * @param driver the WebDriver instance used to interact with the web page
      */
     public LoginPage(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
+        CachingElementLocatorFactory.initElements(driver, this);
     }
 
     /**
@@ -93,7 +100,7 @@ public class LoginPage {
      */
     public boolean isDisplayedAccoutButton() {
         LoggerUtil.info("Looking account button.");
-        return accountBtn.isDisplayed();
+        return Wait.isVisible(driver, accountBtn);
     }
 
     /**
@@ -102,7 +109,7 @@ public class LoginPage {
      */
     public void clickOnAccount() {
         LoggerUtil.info("Clicking on account button.");
-        accountBtn.click();
+        Wait.until(driver, Wait.clickable(accountBtn)).click();
     }
 
     /**
@@ -112,7 +119,7 @@ public class LoginPage {
      */
     public String getPageHeader() {
         LoggerUtil.info("Getting login page header.");
-        return pageHeader.getText().trim();
+        return Wait.until(driver, Wait.visible(pageHeader)).getText().trim();
     }
 
 
@@ -123,7 +130,7 @@ public class LoginPage {
      */
     public boolean isDisplayedEmailField() {
         LoggerUtil.info("Looking email field.");
-        return emailInput.isDisplayed();
+        return Wait.isVisible(driver, emailInput);
     }
 
     /**
@@ -133,7 +140,7 @@ public class LoginPage {
      */
     public void enterEmail(String email) {
         LoggerUtil.info("Entering email.....");
-        emailInput.clear();
+        Wait.until(driver, Wait.visible(emailInput)).clear();
         emailInput.sendKeys(email);
     }
 
@@ -144,7 +151,7 @@ public class LoginPage {
      */
     public boolean isPasswordField() {
         LoggerUtil.info("Looking for password field.");
-        return passwordInput.isDisplayed();
+        return Wait.isVisible(driver, passwordInput);
     }
 
     /**
@@ -154,7 +161,7 @@ public class LoginPage {
      */
     public void enterPassword(String password) {
         LoggerUtil.info("Entering password.....");
-        passwordInput.clear();
+        Wait.until(driver, Wait.visible(passwordInput)).clear();
         passwordInput.sendKeys(password);
     }
 
@@ -165,34 +172,48 @@ public class LoginPage {
      */
     public boolean isDisplayedLoginButton() {
         LoggerUtil.info("Looking for login button.");
-        return loginBtn.isDisplayed();
+        return Wait.isVisible(driver, loginBtn);
     }
 
     /**
      * Clicks on the login button.
-     * This method logs the action and performs a click operation on the login button element.
+     * This method logs the action and performs a click operation on the login button element,
+     * then measures the resulting page with {@link WebVitals} once the login message is shown.
      */
     public void clickOnLoginButton() {
         LoggerUtil.info("Clicking on login button.");
-        loginBtn.click();
+        Wait.until(driver, Wait.clickable(loginBtn)).click();
+        WebVitals.capture(driver, "CLICK login", Wait.visible(loginLogotTxt));
     }
 
     public boolean isDisplayedRememberMeCheckbox() {
         LoggerUtil.info("Looking for Remember Me Checkbox.");
-        return rememberCheckbox.isDisplayed();
+        return Wait.isVisible(driver, rememberCheckbox);
     }
 
     public boolean isDisplayedSignUpLnk() {
         LoggerUtil.info("Looking for Sign Up.");
-        return signUplnk.isDisplayed();
+        return Wait.isVisible(driver, signUplnk);
     }
 
     public boolean isDisplayedForgotPasswordLnk() {
         LoggerUtil.info("Looking for Forgot password.");
-        return forgotPasswordlnk.isDisplayed();
+        return Wait.isVisible(driver, forgotPasswordlnk);
     }
 
     public String getLoginLogoutSuccessMsg() {
-        return loginLogotTxt.getText().trim();
+        return Wait.until(driver, Wait.visible(loginLogotTxt)).getText().trim();
+    }
+
+    /**
+     * Captures the displayed, enabled and text state of all elements of the page with a
+     * single script call. The snapshot does not wait for elements, so take it once the
+     * account slideover is open.
+     *
+     * @return The snapshot, keyed by the field names of this page object
+     */
+    public DomSnapshot snapshot() {
+        LoggerUtil.info("Capturing login page state.");
+        return DomSnapshot.capture(driver, this);
     }
 }
\ No newline at end of file
@@ -1,12 +1,21 @@
 package org.sentinel.tests.ui.pom;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import org.sentinel.tests.ui.utils.CachingElementLocatorFactory;
+import org.sentinel.tests.ui.utils.DomSnapshot;
+import org.sentinel.tests.ui.utils.Wait;
+import org.sentinel.tests.ui.utils.WebVitals;
 import org.sentinel.tests.utils.log.LoggerUtil;
 
+import java.time.Duration;
+
 public class MyAccountPage {
+    private static final By LOGOUT_BTN = By.xpath("//button[contains(text(),'Log out')]");
+    private static final By ALERT_TXT = By.xpath("//div[@data-controller='alert']//p");
+
     private WebDriver driver;
 
     @FindBy(xpath = "//a[@href='/account']")
@@ -20,11 +29,21 @@ public class MyAccountPage {
 
     public MyAccountPage(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
+        CachingElementLocatorFactory.initElements(driver, this);
     }
     public boolean isDisplayedAccoutBtn() {
         LoggerUtil.info("Looking account button.");
-        return accountBtn.isDisplayed();
+        return Wait.isVisible(driver, accountBtn);
+    }
+
+    /**
+     * Checks if the account button, which is only shown to logged-in users, is displayed within a timeout.
+     *
+     * @param timeout The time to wait for the button
+     * @return {@code true} if the account button is displayed, {@code false} otherwise.
+     */
+    public boolean isDisplayedAccoutBtn(Duration timeout) {
+        return Wait.isSatisfied(driver, Wait.visible(accountBtn).within(timeout));
     }
 
     /**
@@ -33,22 +52,38 @@ public class MyAccountPage {
      */
     public void clickOnAccount() {
         LoggerUtil.info("Clicking on account button.");
-        accountBtn.click();
+        Wait.until(driver, Wait.clickable(accountBtn)).click();
     }
 
     public String getPageHeader() {
         LoggerUtil.info("Getting account page header.");
-        return pageHeader.getText().trim();
+        return Wait.until(driver, Wait.visible(pageHeader)).getText().trim();
     }
 
     public boolean isDisplayedLogoutBtn() {
         LoggerUtil.info("Looking for Logout button.");
-        return logoutBtn.isDisplayed();
+        return Wait.isVisible(driver, logoutBtn);
     }
 
+    /**
+     * Clicks on the logout button, then measures the resulting page with {@link WebVitals} once the
+     * account page has been left and the logout message is shown.
+     */
     public void clickOnLogoutBtn() {
         LoggerUtil.info("Clicking on login button.");
-        logoutBtn.click();
+        Wait.until(driver, Wait.clickable(logoutBtn)).click();
+        WebVitals.capture(driver, "CLICK logout", Wait.absent(LOGOUT_BTN).and(Wait.visible(ALERT_TXT)));
+    }
+
+    /**
+     * Captures the displayed, enabled and text state of all elements of the page with a
+     * single script call.
+     *
+     * @return The snapshot, keyed by the field names of this page object
+     */
+    public DomSnapshot snapshot() {
+        LoggerUtil.info("Capturing account page state.");
+        return DomSnapshot.capture(driver, this);
     }
 
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Element locator factory for page objects that keeps resolved elements per page instance.
+ *
+ * <p>With {@link PageFactory#initElements(org.openqa.selenium.WebDriver, Object)} every call on a
+ * {@code @FindBy} field looks the element up again. With this factory, a field is looked up on its
+ * first use and the element is reused by later calls on the same page object. Staleness is detected
+ * at no extra cost: a call on a cached element that fails with
+ * {@link StaleElementReferenceException} drops the element, looks it up again and repeats the call
+ * once. Fields of type {@code List<WebElement>} are not cached, since their size may change.</p>
+ *
+ * <p>Usage in a page object constructor, in place of {@code PageFactory.initElements(driver, this)}:</p>
+ * <pre>
+ * CachingElementLocatorFactory.initElements(driver, this);
+ * </pre>
+ *
+ * <p>Cache hits, misses and re-locations of stale elements are counted over all page objects.
+ * With the {@code optimizeLocators} parameter, XPath locators are replaced by their CSS
+ * equivalents where {@link XPathToCss} can translate them.</p>
+ *
+ * <p>The fields and locators of each page class are read by reflection only once per JVM, so
+ * initializing a page object only creates its element proxies.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
+public class CachingElementLocatorFactory implements ElementLocatorFactory {
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong relocations = new AtomicLong();
+
+    private final SearchContext searchContext;
+
+    /**
+     * @param searchContext The driver or element the page object's elements are looked up in
+     */
+    public CachingElementLocatorFactory(SearchContext searchContext) {
+        this.searchContext = searchContext;
+    }
+
+    /**
+     * Initializes the {@code @FindBy} fields of a page object with caching element proxies.
+     *
+     * @param searchContext The driver or element the elements are looked up in
+     * @param page          The page object
+     */
+    public static void initElements(SearchContext searchContext, Object page) {
+        boolean optimize = LocatorProfiler.isOptimizationEnabled();
+        ClassLoader loader = page.getClass().getClassLoader();
+        for (PageFields.PageField field : PageFields.of(page.getClass())) {
+            ElementLocator locator = new CachingElementLocator(searchContext, optimize ? field.optimized() : field.by());
+            field.set(page, field.list() ? proxyForListLocator(loader, locator) : proxyForLocator(loader, locator));
+        }
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        By by = new Annotations(field).buildBy();
+        return new CachingElementLocator(searchContext, LocatorProfiler.isOptimizationEnabled() ? XPathToCss.optimize(by) : by);
+    }
+
+    /**
+     * Returns how often a cached element was reused.
+     *
+     * @return The number of cache hits
+     */
+    public static long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how often an element had to be looked up.
+     *
+     * @return The number of cache misses, including re-locations
+     */
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns how often a cached element had gone stale and was looked up again.
+     *
+     * @return The number of re-locations
+     */
+    public static long getRelocations() {
+        return relocations.get();
+    }
+
+    /**
+     * Locator that keeps the element once found.
+     */
+    static class CachingElementLocator implements ElementLocator {
+        private final SearchContext searchContext;
+        private final By by;
+        private WebElement cached;
+
+        CachingElementLocator(SearchContext searchContext, By by) {
+            this.searchContext = searchContext;
+            this.by = by;
+        }
+
+        @Override
+        public WebElement findElement() {
+            WebElement element = cached;
+            if (element != null) {
+                hits.incrementAndGet();
+                return element;
+            }
+            misses.incrementAndGet();
+            element = searchContext.findElement(by);
+            cached = element;
+            return element;
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            misses.incrementAndGet();
+            return searchContext.findElements(by);
+        }
+
+        /**
+         * Drops the cached element, so the next {@link #findElement()} looks it up again.
+         */
+        void invalidate() {
+            cached = null;
+        }
+
+        @Override
+        public String toString() {
+            return "Caching locator for " + by;
+        }
+    }
+
+    private static WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class},
+                new CachingElementHandler(locator));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<WebElement> proxyForListLocator(ClassLoader loader, ElementLocator locator) {
+        return (List<WebElement>) Proxy.newProxyInstance(loader, new Class<?>[]{List.class},
+                new LocatingElementListHandler(locator));
+    }
+
+    /**
+     * Invokes calls on the located element and retries a call once on a fresh element when the
+     * cached one has gone stale.
+     */
+    private static class CachingElementHandler implements InvocationHandler {
+        private final ElementLocator locator;
+
+        CachingElementHandler(ElementLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Proxy element for: " + locator; // Describing the element needs no lookup
+            }
+            WebElement element = locator.findElement();
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException) || !(locator instanceof CachingElementLocator caching)) {
+                    throw e.getCause();
+                }
+                caching.invalidate();
+                relocations.incrementAndGet();
+                try {
+                    return method.invoke(locator.findElement(), args);
+                } catch (InvocationTargetException retryError) {
+                    throw retryError.getCause();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the displayed, enabled and text state of the elements of a page object,
+ * collected with a single script call instead of one WebDriver call per element and property.
+ *
+ * <p>Every {@code @FindBy} field of the page object is captured under its field name. Locators of
+ * {@code @FindBys} and {@code @FindAll} fields cannot be evaluated in the script and are looked up
+ * with WebDriver calls instead. An element counts as displayed if it has a layout box and is not
+ * hidden by {@code visibility} or {@code opacity}, which approximates
+ * {@link WebElement#isDisplayed()}. The text of an element that is not displayed is empty, as with
+ * {@link WebElement#getText()}.</p>
+ *
+ * <p>A snapshot is taken as is and does not wait for elements. Take it once the page has settled,
+ * e.g. after waiting for one of its elements through {@link Wait}.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>
+ * DomSnapshot form = loginPage.snapshot();
+ * assertLog.assertDisplayed(form, "passwordInput", "Password field is displayed.", "Password field is not displayed.");
+ * </pre>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
+public final class DomSnapshot {
+
+    private static final String SNAPSHOT_SCRIPT =
+            "var states = [];"
+                    + "for (var i = 0; i < arguments[0].length; i++) {"
+                    + "  var using = arguments[0][i][0], value = arguments[0][i][1], element = null;"
+                    + "  try {"
+                    + "    if (using === 'xpath') {"
+                    + "      element = document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+                    + "    } else if (using === 'css selector') {"
+                    + "      element = document.querySelector(value);"
+                    + "    } else if (using === 'id') {"
+                    + "      element = document.getElementById(value);"
+                    + "    } else if (using === 'name') {"
+                    + "      element = document.getElementsByName(value)[0] || null;"
+                    + "    } else if (using === 'class name') {"
+                    + "      element = document.getElementsByClassName(value)[0] || null;"
+                    + "    } else if (using === 'tag name') {"
+                    + "      element = document.getElementsByTagName(value)[0] || null;"
+                    + "    } else {"
+                    + "      var links = document.getElementsByTagName('a');"
+                    + "      for (var j = 0; j < links.length && !element; j++) {"
+                    + "        var text = links[j].innerText.trim();"
+                    + "        if (using === 'link text' ? text === value : text.indexOf(value) >= 0) { element = links[j]; }"
+                    + "      }"
+                    + "    }"
+                    + "  } catch (e) {"
+                    + "    element = null;"
+                    + "  }"
+                    + "  if (!element) { states.push(null); continue; }"
+                    + "  var style = getComputedStyle(element);"
+                    + "  var displayed = element.getClientRects().length > 0 && style.visibility !== 'hidden' && style.opacity !== '0';"
+                    + "  states.push([displayed, !element.disabled, displayed ? (element.innerText || element.value || '').trim() : '']);"
+                    + "}"
+                    + "return states;";
+
+    private final Map<String, ElementState> elements;
+
+    private DomSnapshot(Map<String, ElementState> elements) {
+        this.elements = Collections.unmodifiableMap(elements);
+    }
+
+    /**
+     * The state of one element.
+     *
+     * @param present   Whether the element exists on the page
+     * @param displayed Whether the element is displayed
+     * @param enabled   Whether the element is enabled
+     * @param text      The visible text of the element, empty if it is not displayed
+     */
+    public record ElementState(boolean present, boolean displayed, boolean enabled, String text) {
+
+        /**
+         * The state of an element that does not exist on the page.
+         */
+        public static final ElementState ABSENT = new ElementState(false, false, false, "");
+    }
+
+    /**
+     * Captures the state of all located fields of a page object.
+     *
+     * @param driver The driver of the page
+     * @param page   The page object
+     * @return The snapshot
+     */
+    public static DomSnapshot capture(WebDriver driver, Object page) {
+        Map<String, ElementState> states = new LinkedHashMap<>();
+        List<String> scriptedFields = new ArrayList<>();
+        List<List<String>> scriptedLocators = new ArrayList<>();
+        for (PageFields.PageField field : PageFields.of(page.getClass())) {
+            if (!field.annotated()) {
+                continue;
+            }
+            By locator = field.by();
+            states.put(field.name(), ElementState.ABSENT); // Keeps the declaration order
+            if (locator instanceof By.Remotable remotable && driver instanceof JavascriptExecutor) {
+                By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+                scriptedFields.add(field.name());
+                scriptedLocators.add(List.of(parameters.using(), String.valueOf(parameters.value())));
+            } else {
+                states.put(field.name(), lookUp(driver, locator));
+            }
+        }
+        if (!scriptedLocators.isEmpty()) {
+            List<?> scriptedStates = (List<?>) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, scriptedLocators);
+            for (int i = 0; i < scriptedFields.size(); i++) {
+                List<?> state = (List<?>) scriptedStates.get(i);
+                states.put(scriptedFields.get(i), state == null ? ElementState.ABSENT
+                        : new ElementState(true, Boolean.TRUE.equals(state.get(0)), Boolean.TRUE.equals(state.get(1)), String.valueOf(state.get(2))));
+            }
+        }
+        return new DomSnapshot(states);
+    }
+
+    /**
+     * Returns the state of an element.
+     *
+     * @param field The field name of the element in the page object
+     * @return The state of the element
+     * @throws IllegalArgumentException if the page object has no such located field
+     */
+    public ElementState get(String field) {
+        ElementState state = elements.get(field);
+        if (state == null) {
+            throw new IllegalArgumentException("No element captured for field: " + field);
+        }
+        return state;
+    }
+
+    /**
+     * Returns whether an element was displayed.
+     *
+     * @param field The field name of the element in the page object
+     * @return {@code true} if the element was displayed
+     */
+    public boolean isDisplayed(String field) {
+        return get(field).displayed();
+    }
+
+    /**
+     * Returns whether an element was enabled.
+     *
+     * @param field The field name of the element in the page object
+     * @return {@code true} if the element was present and enabled
+     */
+    public boolean isEnabled(String field) {
+        return get(field).present() && get(field).enabled();
+    }
+
+    /**
+     * Returns the visible text of an element.
+     *
+     * @param field The field name of the element in the page object
+     * @return The trimmed text, empty if the element was absent or not displayed
+     */
+    public String getText(String field) {
+        return get(field).text();
+    }
+
+    /**
+     * Returns the captured field names.
+     *
+     * @return The field names in declaration order
+     */
+    public Set<String> fields() {
+        return elements.keySet();
+    }
+
+    @Override
+    public String toString() {
+        return "DomSnapshot" + elements;
+    }
+
+    private static ElementState lookUp(WebDriver driver, By locator) {
+        List<WebElement> found = driver.findElements(locator);
+        if (found.isEmpty()) {
+            return ElementState.ABSENT;
+        }
+        WebElement element = found.get(0);
+        boolean displayed = element.isDisplayed();
+        return new ElementState(true, displayed, element.isEnabled(), displayed ? element.getText().trim() : "");
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures how long the {@code @FindBy} locators of page objects take on the live page.
+ *
+ * <p>Each locator is looked up a few times and its median lookup time and number of matches are
+ * recorded. XPath locators with an exact CSS equivalent (see {@link XPathToCss}) are timed as CSS
+ * as well, and both are checked to find the same elements. The report flags locators that are:</p>
+ * <ul>
+ *   <li>Slow - slower than the {@code slowLocatorMillis} parameter (default 50 ms)</li>
+ *   <li>Ambiguous - a single-element field matching several elements</li>
+ *   <li>Not Found - never matched while profiled</li>
+ *   <li>Use CSS - the CSS equivalent finds the same elements faster</li>
+ * </ul>
+ *
+ * <p>With the {@code profileLocators} parameter, the page objects of each UI test are profiled
+ * against the page the test ended on. The results are written to the "Locator Profile" sheet of the
+ * Excel report, one table per page, and appended to {@code reports/locator-history/locator-profile.csv},
+ * which is kept across runs so locator cost can be tracked over time. With the
+ * {@code optimizeLocators} parameter, page objects use the CSS equivalents instead of the XPaths.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see XPathToCss
+ * @see CachingElementLocatorFactory
+ */
+public class LocatorProfiler {
+
+    private static final String SHEET_NAME = "Locator Profile";
+    private static final Path HISTORY_FILE = Paths.get("reports", "locator-history", "locator-profile.csv");
+    private static final String HISTORY_HEADER = "Run,Page,Field,Locator,CSS Equivalent,Matches,Mean Lookup (ms),Mean CSS Lookup (ms),Verdict";
+    private static final int LOOKUPS = 3;
+    private static final long DEFAULT_SLOW_MILLIS = 50;
+    private static final Map<String, Map<String, LocatorStats>> profiles = new LinkedHashMap<>();
+
+    private LocatorProfiler() {
+    }
+
+    /**
+     * Returns whether page objects should be profiled after each UI test.
+     *
+     * @return {@code true} if the {@code profileLocators} parameter is set
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ReadTestNG.getParameter(Config.PROFILE_LOCATORS));
+    }
+
+    /**
+     * Returns whether page objects should use the CSS equivalents of their XPath locators.
+     *
+     * @return {@code true} if the {@code optimizeLocators} parameter is set
+     */
+    public static boolean isOptimizationEnabled() {
+        return Boolean.parseBoolean(ReadTestNG.getParameter(Config.OPTIMIZE_LOCATORS));
+    }
+
+    /**
+     * Times every {@code @FindBy}, {@code @FindBys} and {@code @FindAll} locator of a page object
+     * against the current page.
+     *
+     * @param context The driver the page object uses
+     * @param page    The page object
+     */
+    public static void profile(SearchContext context, Object page) {
+        String pageName = page.getClass().getSimpleName();
+        for (PageFields.PageField field : PageFields.of(page.getClass())) {
+            if (!field.annotated()) {
+                continue;
+            }
+            By locator = field.by();
+            String xpath = XPathToCss.xpathOf(locator);
+            String css = xpath == null ? null : XPathToCss.translate(xpath);
+            try {
+                Lookup lookup = time(context, locator);
+                Lookup cssLookup = css == null ? null : time(context, By.cssSelector(css));
+                LocatorStats stats;
+                synchronized (profiles) {
+                    stats = profiles.computeIfAbsent(pageName, k -> new LinkedHashMap<>())
+                            .computeIfAbsent(field.name(), k -> new LocatorStats(describe(locator), css, !field.list()));
+                }
+                stats.add(lookup, cssLookup);
+            } catch (WebDriverException e) {
+                LoggerUtil.warning(String.format("Unable to profile %s.%s: %s", pageName, field.name(), e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Writes the profiles to the "Locator Profile" sheet of the Excel report and appends them to the
+     * locator history. Nothing is written if no page object was profiled.
+     */
+    public static void writeReport() {
+        long slowMillis = ReadTestNG.getLongParameter(Config.SLOW_LOCATOR_MILLIS, DEFAULT_SLOW_MILLIS);
+        List<ReportTable> tables = new ArrayList<>();
+        List<String> history = new ArrayList<>();
+        String run = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        synchronized (profiles) {
+            profiles.forEach((page, fields) -> {
+                List<Object[]> rows = new ArrayList<>();
+                fields.forEach((field, stats) -> {
+                    Object[] row = stats.toRow(field, slowMillis);
+                    rows.add(row);
+                    history.add(csv(run, page, row));
+                    if (!"OK".equals(row[row.length - 1])) {
+                        LoggerUtil.warning(String.format("Locator %s.%s: %s", page, field, row[row.length - 1]));
+                    }
+                });
+                tables.add(new ReportTable(page, new String[]{"Field", "Locator", "CSS Equivalent", "Samples", "Matches",
+                        "Mean Lookup (ms)", "Mean CSS Lookup (ms)", "Verdict"}, rows));
+            });
+        }
+        if (tables.isEmpty()) {
+            return;
+        }
+        ExcelUtil.writeReportSheet(SHEET_NAME, tables);
+        appendHistory(history);
+    }
+
+    private static Lookup time(SearchContext context, By locator) {
+        long[] nanos = new long[LOOKUPS];
+        List<WebElement> elements = null;
+        for (int i = 0; i < LOOKUPS; i++) {
+            long start = System.nanoTime();
+            elements = context.findElements(locator);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return new Lookup(nanos[LOOKUPS / 2], elements);
+    }
+
+    private static String describe(By locator) {
+        String xpath = XPathToCss.xpathOf(locator);
+        return xpath != null ? xpath : locator.toString();
+    }
+
+    private static String csv(String run, String page, Object[] row) {
+        List<String> cells = new ArrayList<>(List.of(run, page));
+        cells.add(String.valueOf(row[0]));
+        cells.add(String.valueOf(row[1]));
+        cells.add(String.valueOf(row[2]));
+        for (int i = 4; i < row.length; i++) {
+            cells.add(String.valueOf(row[i]));
+        }
+        return String.join(",", cells.stream().map(cell -> "\"" + cell.replace("\"", "\"\"") + "\"").toList());
+    }
+
+    private static void appendHistory(List<String> lines) {
+        try {
+            Files.createDirectories(HISTORY_FILE.getParent());
+            if (!Files.exists(HISTORY_FILE)) {
+                Files.write(HISTORY_FILE, List.of(HISTORY_HEADER), StandardCharsets.UTF_8);
+            }
+            Files.write(HISTORY_FILE, lines, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LoggerUtil.warning("Unable to write locator history: " + e.getMessage());
+        }
+    }
+
+    private record Lookup(long nanos, List<WebElement> elements) {
+    }
+
+    /**
+     * Lookups of one locator over all profiled tests.
+     */
+    private static class LocatorStats {
+        private final String locator;
+        private final String css;
+        private final boolean singleElement;
+        private int samples;
+        private int found;
+        private int maxMatches;
+        private long nanos;
+        private long cssNanos;
+        private boolean cssDiffers;
+
+        LocatorStats(String locator, String css, boolean singleElement) {
+            this.locator = locator;
+            this.css = css;
+            this.singleElement = singleElement;
+        }
+
+        synchronized void add(Lookup lookup, Lookup cssLookup) {
+            samples++;
+            nanos += lookup.nanos();
+            int matches = lookup.elements().size();
+            maxMatches = Math.max(maxMatches, matches);
+            found += matches > 0 ? 1 : 0;
+            if (cssLookup != null) {
+                cssNanos += cssLookup.nanos();
+                cssDiffers |= !cssLookup.elements().equals(lookup.elements());
+            }
+        }
+
+        synchronized Object[] toRow(String field, long slowMillis) {
+            double meanMillis = nanos / 1_000_000.0 / samples;
+            double cssMeanMillis = css == null ? -1 : cssNanos / 1_000_000.0 / samples;
+            List<String> verdicts = new ArrayList<>();
+            if (found == 0) {
+                verdicts.add("Not Found");
+            }
+            if (singleElement && maxMatches > 1) {
+                verdicts.add(String.format("Ambiguous (%d matches)", maxMatches));
+            }
+            if (meanMillis > slowMillis) {
+                verdicts.add("Slow");
+            }
+            if (css != null && cssDiffers) {
+                verdicts.add("CSS Differs");
+            } else if (css != null && found > 0 && cssMeanMillis < meanMillis) {
+                verdicts.add("Use CSS");
+            }
+            return new Object[]{field, locator, css == null ? "-" : css, samples, maxMatches,
+                    String.format("%.1f", meanMillis), css == null ? "-" : String.format("%.1f", cssMeanMillis),
+                    verdicts.isEmpty() ? "OK" : String.join(", ", verdicts)};
+        }
+    }
+}
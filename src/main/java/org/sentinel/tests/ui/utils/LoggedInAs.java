@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Starts a UI test with the browser already logged in as a user, instead of logging in through
+ * the login slide-over as a precondition.
+ *
+ * <p>Before the test method runs, {@code BaseUIService} restores the session state of the user
+ * from {@link SessionStateCache}. The user logs in through the UI only once per run; later tests
+ * get the captured cookies and local storage injected into their browser. The browser is left on
+ * the application URL.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>
+ * &#64;Test
+ * &#64;LoggedInAs("user1")
+ * public void T0201(Method method) { ... }
+ * </pre>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see SessionStateCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface LoggedInAs {
+
+    /**
+     * The user to log in as: the name of the user's sheet in the users data file.
+     *
+     * @return The user
+     */
+    String value();
+
+    /**
+     * The Excel data file holding the user's {@code name} and {@code password}.
+     *
+     * @return The data file name
+     */
+    String dataFile() default "Users.xlsx";
+}
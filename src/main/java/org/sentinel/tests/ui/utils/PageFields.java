@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The element fields of page object classes, read by reflection once per class for the whole JVM.
+ *
+ * <p>Page objects are created for every test, but their fields and locators never change. Caching
+ * them saves walking the class hierarchy and parsing the {@code @FindBy} annotations each time a
+ * page object is initialized, profiled or snapshotted. The cache is a {@link ClassValue}, so it is
+ * thread-safe and does not keep page classes from being unloaded.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see CachingElementLocatorFactory
+ */
+final class PageFields {
+
+    private static final ClassValue<List<PageField>> cache = new ClassValue<>() {
+        @Override
+        protected List<PageField> computeValue(Class<?> type) {
+            return read(type);
+        }
+    };
+
+    private PageFields() {
+    }
+
+    /**
+     * An element field of a page object class.
+     *
+     * @param field     The field, made accessible
+     * @param by        The locator of the field
+     * @param optimized The locator with XPath translated to CSS where possible, see {@link XPathToCss}
+     * @param list      {@code true} for a {@code List<WebElement>} field
+     * @param annotated {@code true} if the locator is declared by {@code @FindBy}, {@code @FindBys} or
+     *                  {@code @FindAll}, rather than derived from the field name
+     */
+    record PageField(Field field, By by, By optimized, boolean list, boolean annotated) {
+
+        String name() {
+            return field.getName();
+        }
+
+        void set(Object page, Object value) {
+            try {
+                field.set(page, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to initialize page object field " + field, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the element fields of a page object class and its superclasses, in declaration order.
+     *
+     * @param pageClass The page object class
+     * @return The fields that {@code PageFactory} would initialize
+     */
+    static List<PageField> of(Class<?> pageClass) {
+        return cache.get(pageClass);
+    }
+
+    private static List<PageField> read(Class<?> pageClass) {
+        List<PageField> fields = new ArrayList<>();
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                boolean annotated = field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                        || field.isAnnotationPresent(FindAll.class);
+                boolean list = annotated && isElementList(field);
+                if (field.getType() != WebElement.class && !list) {
+                    continue; // Same fields as the DefaultFieldDecorator of PageFactory
+                }
+                field.setAccessible(true);
+                By by = new Annotations(field).buildBy();
+                fields.add(new PageField(field, by, XPathToCss.optimize(by), list, annotated));
+            }
+        }
+        return List.copyOf(fields);
+    }
+
+    private static boolean isElementList(Field field) {
+        if (field.getType() != List.class || !(field.getGenericType() instanceof ParameterizedType parameterized)) {
+            return false;
+        }
+        Type elementType = parameterized.getActualTypeArguments()[0];
+        return elementType == WebElement.class;
+    }
+}
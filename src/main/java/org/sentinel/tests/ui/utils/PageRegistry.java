@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The page objects of one test, created lazily on first access.
+ *
+ * <p>A test only pays for the page objects it uses: each page object is constructed, and its
+ * elements initialized, the first time it is requested, and the same instance is returned for the
+ * rest of the test. Page object classes need a public constructor taking the {@link WebDriver}.</p>
+ *
+ * <pre>
+ * PageRegistry pages = new PageRegistry(driver);
+ * pages.get(LoginPage.class).clickOnAccount();
+ * </pre>
+ *
+ * <p>The constructors of page object classes, like their element fields, are looked up by
+ * reflection once per JVM. A registry may be used from several threads.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see CachingElementLocatorFactory
+ */
+public class PageRegistry {
+
+    private static final ClassValue<Constructor<?>> constructors = new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> pageClass) {
+            try {
+                return pageClass.getConstructor(WebDriver.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("Page object " + pageClass.getName() + " has no public constructor taking a WebDriver", e);
+            }
+        }
+    };
+
+    private final WebDriver driver;
+    private final Map<Class<?>, Object> pages = new ConcurrentHashMap<>();
+
+    /**
+     * @param driver The driver the page objects use
+     */
+    public PageRegistry(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Returns the page object of a class, creating it on first access.
+     *
+     * @param pageClass The page object class
+     * @param <T>       The page object type
+     * @return The page object
+     * @throws IllegalArgumentException if the class has no public constructor taking a WebDriver
+     * @throws IllegalStateException    if the page object could not be created
+     */
+    public <T> T get(Class<T> pageClass) {
+        return pageClass.cast(pages.computeIfAbsent(pageClass, this::create));
+    }
+
+    /**
+     * Returns the page objects created so far.
+     *
+     * @return The page objects, in no particular order
+     */
+    public Collection<Object> created() {
+        return new ArrayList<>(pages.values());
+    }
+
+    private Object create(Class<?> pageClass) {
+        try {
+            return constructors.get(pageClass).newInstance(driver);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create page object " + pageClass.getSimpleName() + ": "
+                    + e.getTargetException().getMessage(), e.getTargetException());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create page object " + pageClass.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+}
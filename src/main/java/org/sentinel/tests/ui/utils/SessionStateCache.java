@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.ui.pom.LoginPage;
+import org.sentinel.tests.ui.pom.MyAccountPage;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logs browsers in by injecting the cookies and local storage of an earlier login, so tests
+ * that need a logged-in user do not repeat the UI login as a precondition.
+ *
+ * <p>The first test of a user in a run logs in through the login slide-over and the resulting
+ * session state is captured. Later tests of the user get that state injected into their browser.
+ * Users are taken from the users data file, e.g. {@code Users.xlsx}, and log in once per run even
+ * when tests run in parallel.</p>
+ *
+ * <p>A captured state is used for at most {@code sessionStateTtlMinutes} (default 30). Cookies
+ * that have expired are not injected. If the application does not accept the injected state,
+ * e.g. because the session was logged out on the server, the state is dropped and the user logs
+ * in through the UI again.</p>
+ *
+ * <p>States are kept in memory only, so no session cookies are written to disk.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see LoggedInAs
+ */
+public class SessionStateCache {
+
+    private static final long DEFAULT_TTL_MINUTES = 30;
+    private static final Duration VERIFY_TIMEOUT = Duration.ofSeconds(5);
+    private static final String LOGIN_SUCCESS_MSG = "SIGNED IN SUCCESSFULLY.";
+    private static final Map<String, SessionState> states = new ConcurrentHashMap<>();
+    private static final Map<String, Object> loginLocks = new ConcurrentHashMap<>();
+
+    private SessionStateCache() {
+    }
+
+    /**
+     * Logs a browser in as a user, from the cached session state of the user if possible.
+     * The browser is left on the application URL.
+     *
+     * @param driver The driver of the browser
+     * @param appURL The application URL
+     * @param user   The user to log in as
+     * @throws IllegalStateException if the user cannot log in through the UI either
+     */
+    public static void logIn(WebDriver driver, String appURL, LoggedInAs user) {
+        String key = user.dataFile() + "/" + user.value();
+        SessionState cached = states.get(key);
+        if (cached != null && restore(driver, appURL, key, cached)) {
+            return;
+        }
+        synchronized (loginLocks.computeIfAbsent(key, k -> new Object())) {
+            SessionState current = states.get(key);
+            if (current != null && current != cached && restore(driver, appURL, key, current)) {
+                return; // Another test logged the user in meanwhile
+            }
+            states.remove(key);
+            states.put(key, logInThroughUi(driver, appURL, user));
+        }
+    }
+
+    private static boolean restore(WebDriver driver, String appURL, String key, SessionState state) {
+        if (state.isExpired()) {
+            LoggerUtil.info(String.format("Session state of %s has expired.", key));
+            return false;
+        }
+        try {
+            driver.get(appURL); // Cookies can only be set for the current domain
+            driver.manage().deleteAllCookies();
+            Date now = new Date();
+            for (Cookie cookie : state.cookies()) {
+                if (cookie.getExpiry() == null || cookie.getExpiry().after(now)) {
+                    driver.manage().addCookie(cookie);
+                }
+            }
+            ((JavascriptExecutor) driver).executeScript(
+                    "localStorage.clear(); for (var key in arguments[0]) { localStorage.setItem(key, arguments[0][key]); }",
+                    state.localStorage());
+            driver.get(appURL);
+        } catch (WebDriverException e) {
+            LoggerUtil.warning(String.format("Unable to inject session state of %s: %s", key, e.getMessage()));
+            return false;
+        }
+        if (!new MyAccountPage(driver).isDisplayedAccoutBtn(VERIFY_TIMEOUT)) {
+            LoggerUtil.warning(String.format("Session state of %s was not accepted, logging in through the UI.", key));
+            return false;
+        }
+        LoggerUtil.info(String.format("Logged in as %s from the cached session state.", key));
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionState logInThroughUi(WebDriver driver, String appURL, LoggedInAs user) {
+        LoggerUtil.info(String.format("Logging in as %s through the UI.", user.value()));
+        Map<String, String> testData = ExcelUtil.readKeyValuePairs(user.dataFile(), user.value());
+        driver.get(appURL);
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript("localStorage.clear();");
+        driver.get(appURL);
+
+        LoginPage loginPage = new LoginPage(driver);
+        loginPage.clickOnAccount();
+        loginPage.enterEmail(testData.get("name"));
+        loginPage.enterPassword(testData.get("password"));
+        loginPage.clickOnLoginButton();
+        String message = loginPage.getLoginLogoutSuccessMsg();
+        if (!LOGIN_SUCCESS_MSG.equalsIgnoreCase(message)) {
+            throw new IllegalStateException(String.format("UI login as %s failed: %s", user.value(), message));
+        }
+
+        Map<String, Object> localStorage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(
+                "var items = {}; for (var i = 0; i < localStorage.length; i++) { var key = localStorage.key(i); items[key] = localStorage.getItem(key); } return items;");
+        return new SessionState(Set.copyOf(driver.manage().getCookies()), Map.copyOf(localStorage),
+                Instant.now().plus(Duration.ofMinutes(ReadTestNG.getLongParameter(Config.SESSION_STATE_TTL_MINUTES, DEFAULT_TTL_MINUTES))));
+    }
+
+    /**
+     * The captured session state of a user.
+     */
+    private record SessionState(Set<Cookie> cookies, Map<String, Object> localStorage, Instant expiresAt) {
+
+        boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+    }
+}
@@ -1,5 +1,421 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
 package org.sentinel.tests.ui.utils;
 
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Explicit wait engine for page objects and tests, used instead of an implicit wait.
+ *
+ * <p>A {@link Condition} is evaluated until it returns a non-null value other than
+ * {@code false}, or its timeout expires. Conditions can be combined with {@link Condition#and},
+ * {@link Condition#or} and {@link Condition#negate}, and carry their own timeout through
+ * {@link Condition#within(Duration)}. Conditions without one use the {@code waitTimeoutSeconds}
+ * parameter (default 20 seconds).</p>
+ *
+ * <p>Polling is adaptive: a condition is re-checked after 25 ms, and the interval doubles up to
+ * 500 ms, so elements that appear quickly are found quickly without hammering the browser on
+ * slow pages. {@link NoSuchElementException} and {@link StaleElementReferenceException} mean the
+ * condition is not yet met. {@link #visibilityOfAll(By...)} and {@link #invisibilityOfAll(By...)}
+ * check several locators with a single script call.</p>
+ *
+ * <p>The time spent waiting is added up per test and can be read with
+ * {@link #getWaitedMillis(ITestResult)}.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>
+ * Wait.until(driver, Wait.clickable(loginBtn)).click();
+ * boolean gone = Wait.isSatisfied(driver, Wait.absent(By.id("spinner")).within(Duration.ofSeconds(2)));
+ * </pre>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
 public class Wait {
-    private Wait(){}
+
+    private static final long DEFAULT_TIMEOUT_SECONDS = 20;
+    private static final long FIRST_POLL_MILLIS = 25;
+    private static final long MAX_POLL_MILLIS = 500;
+    private static final String WAITED_ATTRIBUTE = "waitedMillis";
+    private static final String ELEMENT_STATES_SCRIPT =
+            "var states = [];"
+                    + "for (var i = 0; i < arguments[0].length; i++) {"
+                    + "  var locator = arguments[0][i], element;"
+                    + "  if (locator[0] === 'xpath') {"
+                    + "    element = document.evaluate(locator[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+                    + "  } else {"
+                    + "    element = document.querySelector(locator[1]);"
+                    + "  }"
+                    + "  states.push(!element ? 0 : (element.getClientRects().length > 0"
+                    + "      && getComputedStyle(element).visibility !== 'hidden' ? 2 : 1));"
+                    + "}"
+                    + "return states;";
+
+    private Wait() {
+    }
+
+    /**
+     * A condition a wait polls for.
+     *
+     * @param <T> The value returned once the condition is met
+     */
+    @FunctionalInterface
+    public interface Condition<T> extends Function<WebDriver, T> {
+
+        /**
+         * Returns the timeout of this condition.
+         *
+         * @return The timeout, or null to use the default timeout
+         */
+        default Duration timeout() {
+            return null;
+        }
+
+        /**
+         * Returns this condition with its own timeout.
+         *
+         * @param timeout The time to wait for the condition
+         * @return The condition with the timeout
+         */
+        default Condition<T> within(Duration timeout) {
+            Condition<T> self = this;
+            return new Condition<>() {
+                @Override
+                public T apply(WebDriver driver) {
+                    return self.apply(driver);
+                }
+
+                @Override
+                public Duration timeout() {
+                    return timeout;
+                }
+
+                @Override
+                public String toString() {
+                    return self.toString();
+                }
+            };
+        }
+
+        /**
+         * Returns a condition met when both this and another condition are met.
+         *
+         * @param other The other condition
+         * @return The combined condition
+         */
+        default Condition<Boolean> and(Condition<?> other) {
+            return describe("(" + this + " and " + other + ")", driver -> holds(this, driver) && holds(other, driver));
+        }
+
+        /**
+         * Returns a condition met when this or another condition is met.
+         *
+         * @param other The other condition
+         * @return The combined condition
+         */
+        default Condition<Boolean> or(Condition<?> other) {
+            return describe("(" + this + " or " + other + ")", driver -> holds(this, driver) || holds(other, driver));
+        }
+
+        /**
+         * Returns a condition met when this condition is not met.
+         *
+         * @return The negated condition
+         */
+        default Condition<Boolean> negate() {
+            return describe("not " + this, driver -> !holds(this, driver));
+        }
+    }
+
+    /**
+     * Waits until a condition is met.
+     *
+     * @param driver    The driver the condition is evaluated with
+     * @param condition The condition
+     * @param <T>       The value returned by the condition
+     * @return The value of the condition once met
+     * @throws TimeoutException if the condition is not met within its timeout
+     */
+    public static <T> T until(WebDriver driver, Condition<T> condition) {
+        Duration timeout = condition.timeout() != null ? condition.timeout() : getDefaultTimeout();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = FIRST_POLL_MILLIS;
+        RuntimeException lastError = null;
+        try {
+            while (true) {
+                try {
+                    T value = condition.apply(driver);
+                    if (isMet(value)) {
+                        return value;
+                    }
+                } catch (NoSuchElementException | StaleElementReferenceException e) {
+                    lastError = e;
+                }
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException(String.format("Condition not met within %d ms: %s", timeout.toMillis(), condition), lastError);
+                }
+                sleep(Math.min(pollMillis, remainingNanos / 1_000_000 + 1));
+                pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+            }
+        } finally {
+            recordWait(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Waits until a condition is met, without failing if it is not.
+     * Suited for negative checks, e.g. with a short timeout through {@link Condition#within(Duration)}.
+     *
+     * @param driver    The driver the condition is evaluated with
+     * @param condition The condition
+     * @return {@code true} if the condition was met within its timeout
+     */
+    public static boolean isSatisfied(WebDriver driver, Condition<?> condition) {
+        try {
+            until(driver, condition);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether an element becomes visible within the default timeout.
+     *
+     * @param driver  The driver the element belongs to
+     * @param element The element, typically a page object field
+     * @return {@code true} if the element is displayed
+     */
+    public static boolean isVisible(WebDriver driver, WebElement element) {
+        return isSatisfied(driver, visible(element));
+    }
+
+    /**
+     * Condition met when an element is displayed.
+     *
+     * @param element The element
+     * @return The condition, returning the element
+     */
+    public static Condition<WebElement> visible(WebElement element) {
+        return describe("visibility of " + element, driver -> element.isDisplayed() ? element : null);
+    }
+
+    /**
+     * Condition met when an element is displayed and enabled.
+     *
+     * @param element The element
+     * @return The condition, returning the element
+     */
+    public static Condition<WebElement> clickable(WebElement element) {
+        return describe("clickability of " + element, driver -> element.isDisplayed() && element.isEnabled() ? element : null);
+    }
+
+    /**
+     * Condition met when the text of an element contains a value.
+     *
+     * @param element The element
+     * @param text    The expected text
+     * @return The condition, returning the text of the element
+     */
+    public static Condition<String> textContains(WebElement element, String text) {
+        return describe(String.format("text '%s' in %s", text, element), driver -> {
+            String actual = element.getText();
+            return actual != null && actual.contains(text) ? actual : null;
+        });
+    }
+
+    /**
+     * Condition met when an element matching a locator is displayed.
+     *
+     * @param locator The locator
+     * @return The condition, returning the first displayed element
+     */
+    public static Condition<WebElement> visible(By locator) {
+        return describe("visibility of " + locator, driver -> driver.findElements(locator).stream()
+                .filter(WebElement::isDisplayed)
+                .findFirst()
+                .orElse(null));
+    }
+
+    /**
+     * Condition met when no element matches a locator.
+     *
+     * @param locator The locator
+     * @return The condition
+     */
+    public static Condition<Boolean> absent(By locator) {
+        return describe("absence of " + locator, driver -> driver.findElements(locator).isEmpty());
+    }
+
+    /**
+     * Condition met when the current document and its subresources have finished loading.
+     *
+     * @return The condition
+     */
+    public static Condition<Boolean> documentComplete() {
+        return describe("document ready state complete", driver -> driver instanceof JavascriptExecutor executor
+                && "complete".equals(executor.executeScript("return document.readyState;")));
+    }
+
+    /**
+     * Condition met when all locators match a displayed element. All locators are checked with
+     * a single script call where possible.
+     *
+     * @param locators The locators
+     * @return The condition
+     */
+    public static Condition<Boolean> visibilityOfAll(By... locators) {
+        return describe("visibility of all " + List.of(locators), driver -> {
+            for (int state : elementStates(driver, locators)) {
+                if (state != 2) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Condition met when no locator matches a displayed element. All locators are checked with
+     * a single script call where possible.
+     *
+     * @param locators The locators
+     * @return The condition
+     */
+    public static Condition<Boolean> invisibilityOfAll(By... locators) {
+        return describe("invisibility of all " + List.of(locators), driver -> {
+            for (int state : elementStates(driver, locators)) {
+                if (state == 2) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Returns the default timeout of conditions without their own timeout.
+     *
+     * @return The {@code waitTimeoutSeconds} parameter, or 20 seconds if it is missing or invalid
+     */
+    public static Duration getDefaultTimeout() {
+        return Duration.ofSeconds(ReadTestNG.getLongParameter(Config.WAIT_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Returns the time a test spent in waits.
+     *
+     * @param result The result of the test
+     * @return The total wait time in milliseconds
+     */
+    public static long getWaitedMillis(ITestResult result) {
+        Object waited = result.getAttribute(WAITED_ATTRIBUTE);
+        return waited == null ? 0 : ((AtomicLong) waited).get() / 1_000_000;
+    }
+
+    /**
+     * Returns the state of the first element matching each locator: 0 if absent, 1 if hidden and
+     * 2 if displayed. CSS and XPath locators are checked together in one script call, other
+     * locators one by one.
+     */
+    static int[] elementStates(WebDriver driver, By... locators) {
+        int[] states = new int[locators.length];
+        List<List<String>> scripted = new ArrayList<>();
+        List<Integer> scriptedIndexes = new ArrayList<>();
+        for (int i = 0; i < locators.length; i++) {
+            By.Remotable.Parameters parameters = locators[i] instanceof By.Remotable remotable ? remotable.getRemoteParameters() : null;
+            if (parameters != null && driver instanceof JavascriptExecutor
+                    && ("css selector".equals(parameters.using()) || "xpath".equals(parameters.using()))) {
+                scripted.add(List.of(parameters.using(), String.valueOf(parameters.value())));
+                scriptedIndexes.add(i);
+            } else {
+                states[i] = driver.findElements(locators[i]).stream()
+                        .mapToInt(element -> element.isDisplayed() ? 2 : 1)
+                        .max()
+                        .orElse(0);
+            }
+        }
+        if (!scripted.isEmpty()) {
+            List<?> scriptedStates = (List<?>) ((JavascriptExecutor) driver).executeScript(ELEMENT_STATES_SCRIPT, scripted);
+            for (int i = 0; i < scriptedIndexes.size(); i++) {
+                states[scriptedIndexes.get(i)] = ((Number) scriptedStates.get(i)).intValue();
+            }
+        }
+        return states;
+    }
+
+    private static boolean isMet(Object value) {
+        return value != null && !Boolean.FALSE.equals(value);
+    }
+
+    /**
+     * Evaluates a condition as part of a combined condition, where a missing or stale element
+     * means the condition is not met, so that e.g. the negated visibility of a missing element holds.
+     */
+    private static boolean holds(Condition<?> condition, WebDriver driver) {
+        try {
+            return isMet(condition.apply(driver));
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    private static <T> Condition<T> describe(String description, Condition<T> condition) {
+        return new Condition<>() {
+            @Override
+            public T apply(WebDriver driver) {
+                return condition.apply(driver);
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+
+    private static void recordWait(long elapsedNanos) {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null) {
+            return;
+        }
+        AtomicLong waited;
+        synchronized (result) {
+            waited = (AtomicLong) result.getAttribute(WAITED_ATTRIBUTE);
+            if (waited == null) {
+                waited = new AtomicLong();
+                result.setAttribute(WAITED_ATTRIBUTE, waited);
+            }
+        }
+        waited.addAndGet(elapsedNanos);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
 }
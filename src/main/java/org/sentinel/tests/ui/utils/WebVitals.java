@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.sentinel.tests.config.ui.HtmlUnitBrowser;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.insights.AllureUtil;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures the performance of the application under test as seen by the browser, after each
+ * navigation and major page-object interaction.
+ *
+ * <p>One script call per step reads the Navigation Timing of the current document, the number and
+ * transfer size of its resources, and the buffered paint, layout-shift and event-timing entries:</p>
+ * <ul>
+ *   <li>TTFB, DOMContentLoaded and Load - from Navigation Timing, in ms since navigation start</li>
+ *   <li>FCP and LCP - first and largest contentful paint</li>
+ *   <li>CLS - the sum of all layout shifts not caused by user input</li>
+ *   <li>INP - the longest interaction of the document so far</li>
+ * </ul>
+ * <p>Metrics a browser does not support, e.g. LCP in Firefox, are left empty. The in-process
+ * {@link HtmlUnitBrowser} does not render, so it is not measured.</p>
+ *
+ * <p>With the {@code webVitals} parameter, steps are measured and aggregated per page and step.
+ * The 75th percentile of each metric, the web-vitals convention, is written to the "Web Vitals"
+ * sheet of the Excel report, and every sample is appended to
+ * {@code reports/web-vitals-history/web-vitals.csv} so pages can be compared across runs.</p>
+ *
+ * <p>The {@code webVitalsBudget} parameter sets budgets as {@code metric=limit} pairs, e.g.
+ * {@code lcp=2500,cls=0.1,inp=200}. A step over budget is logged as a failed Allure step and fails
+ * its test once the test method returns.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
+public class WebVitals {
+
+    private static final String SHEET_NAME = "Web Vitals";
+    private static final String BREACHES_ATTRIBUTE = "webVitalsBreaches";
+    private static final Path HISTORY_FILE = Paths.get("reports", "web-vitals-history", "web-vitals.csv");
+    private static final String VITALS_SCRIPT =
+            "var navigation = performance.getEntriesByType('navigation')[0];"
+                    + "var resources = performance.getEntriesByType('resource');"
+                    + "var fcp = performance.getEntriesByName('first-contentful-paint')[0];"
+                    + "var vitals = {page: location.pathname, ttfb: navigation ? navigation.responseStart : null,"
+                    + "  domContentLoaded: navigation ? navigation.domContentLoadedEventEnd : null,"
+                    + "  load: navigation && navigation.loadEventEnd > 0 ? navigation.loadEventEnd : null,"
+                    + "  fcp: fcp ? fcp.startTime : null, lcp: null, cls: null, inp: null, resources: resources.length,"
+                    + "  transferBytes: resources.reduce(function (sum, r) { return sum + (r.transferSize || 0); }, 0)};"
+                    + "var supported = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];"
+                    + "var observer = supported.length ? new PerformanceObserver(function () {}) : null;"
+                    + "['largest-contentful-paint', 'layout-shift', 'event', 'first-input'].forEach(function (type) {"
+                    + "  if (supported.indexOf(type) >= 0) { observer.observe({type: type, buffered: true}); }"
+                    + "});"
+                    + "if (supported.indexOf('layout-shift') >= 0) { vitals.cls = 0; }"
+                    + "(observer ? observer.takeRecords() : []).forEach(function (entry) {"
+                    + "  if (entry.entryType === 'largest-contentful-paint') {"
+                    + "    vitals.lcp = Math.max(vitals.lcp || 0, entry.renderTime || entry.loadTime || entry.startTime);"
+                    + "  } else if (entry.entryType === 'layout-shift') {"
+                    + "    if (!entry.hadRecentInput) { vitals.cls += entry.value; }"
+                    + "  } else if (entry.entryType === 'first-input' || entry.interactionId) {"
+                    + "    vitals.inp = Math.max(vitals.inp || 0, entry.duration);"
+                    + "  }"
+                    + "});"
+                    + "if (observer) { observer.disconnect(); }"
+                    + "return vitals;";
+
+    private static final Map<String, Map<Metric, List<Double>>> samples = new LinkedHashMap<>();
+    private static final Map<String, Integer> sampleCounts = new LinkedHashMap<>();
+    private static final Map<String, Integer> breachCounts = new LinkedHashMap<>();
+    private static final List<String> history = new ArrayList<>();
+
+    private WebVitals() {
+    }
+
+    /**
+     * The measured metrics and their budget names.
+     */
+    enum Metric {
+        TTFB("ttfb", "TTFB (ms)"),
+        DOM_CONTENT_LOADED("domContentLoaded", "DOMContentLoaded (ms)"),
+        LOAD("load", "Load (ms)"),
+        FCP("fcp", "FCP (ms)"),
+        LCP("lcp", "LCP (ms)"),
+        CLS("cls", "CLS"),
+        INP("inp", "INP (ms)"),
+        RESOURCES("resources", "Resources"),
+        TRANSFER_BYTES("transferBytes", "Transfer (bytes)");
+
+        private final String key;
+        private final String label;
+
+        Metric(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        static Metric byKey(String key) {
+            for (Metric metric : values()) {
+                if (metric.key.equalsIgnoreCase(key)) {
+                    return metric;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether steps should be measured.
+     *
+     * @return {@code true} if the {@code webVitals} parameter is set
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ReadTestNG.getParameter(Config.WEB_VITALS));
+    }
+
+    /**
+     * Measures the current document after a step and checks it against the budget.
+     * Does nothing unless {@link #isEnabled() enabled}.
+     *
+     * @param driver The driver of the browser
+     * @param step   The step, e.g. {@code "NAVIGATE /"} or {@code "CLICK login"}
+     */
+    public static void capture(WebDriver driver, String step) {
+        if (!isMeasured(driver)) {
+            return;
+        }
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        Map<?, ?> vitals;
+        try {
+            vitals = (Map<?, ?>) executor.executeScript(VITALS_SCRIPT);
+        } catch (WebDriverException | ClassCastException e) {
+            LoggerUtil.warning(String.format("Unable to measure web vitals after %s: %s", step, e.getMessage()));
+            return;
+        }
+        String page = String.valueOf(vitals.get("page"));
+        Map<Metric, Double> values = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            if (vitals.get(metric.key) instanceof Number number) {
+                values.put(metric, number.doubleValue());
+            }
+        }
+        record(page, step, values);
+        checkBudget(page, step, values);
+    }
+
+    /**
+     * Measures the current document once an interaction has taken effect, e.g. the navigation or
+     * Turbo request started by a click has finished. Waits for the outcome and for the document to
+     * be complete, so the metrics are not read from the page the interaction started on. A step whose
+     * outcome is not reached within the default wait timeout is not measured; the test itself
+     * checks the outcome. Does nothing unless {@link #isEnabled() enabled}.
+     *
+     * @param driver  The driver of the browser
+     * @param step    The step, e.g. {@code "CLICK login"}
+     * @param outcome The condition met once the step has taken effect
+     */
+    public static void capture(WebDriver driver, String step, Wait.Condition<?> outcome) {
+        if (!isMeasured(driver)) {
+            return;
+        }
+        if (!Wait.isSatisfied(driver, outcome.and(Wait.documentComplete()))) {
+            LoggerUtil.warning(String.format("Web vitals after %s not measured, %s was not met.", step, outcome));
+            return;
+        }
+        capture(driver, step);
+    }
+
+    /**
+     * Returns the budget breaches of a test.
+     *
+     * @param result The result of the test
+     * @return A description of each breach, empty if the test kept within the budget
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> getBreaches(ITestResult result) {
+        Object breaches = result.getAttribute(BREACHES_ATTRIBUTE);
+        return breaches == null ? Collections.emptyList() : new ArrayList<>((List<String>) breaches);
+    }
+
+    /**
+     * Writes the 75th percentiles per page and step to the "Web Vitals" sheet of the Excel report and
+     * appends the samples to the web vitals history. Nothing is written if no step was measured.
+     */
+    public static void writeReport() {
+        List<Object[]> rows = new ArrayList<>();
+        List<String> lines;
+        synchronized (samples) {
+            samples.forEach((key, metrics) -> {
+                List<Object> row = new ArrayList<>(List.of(key.split("\n", 2)));
+                row.add(sampleCounts.get(key));
+                for (Metric metric : Metric.values()) {
+                    Double p75 = percentile(metrics.get(metric), 0.75);
+                    row.add(p75 == null ? "-" : String.format(metric == Metric.CLS ? "%.3f" : "%.0f", p75));
+                }
+                row.add(breachCounts.getOrDefault(key, 0));
+                rows.add(row.toArray());
+            });
+            lines = new ArrayList<>(history);
+            history.clear();
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(List.of("Page", "Step", "Samples"));
+        for (Metric metric : Metric.values()) {
+            columns.add(metric.label + " p75");
+        }
+        columns.add("Budget Breaches");
+        ExcelUtil.writeReportSheet(SHEET_NAME, List.of(new ReportTable("Per Page and Step", columns.toArray(new String[0]), rows)));
+        appendHistory(lines);
+    }
+
+    private static boolean isMeasured(WebDriver driver) {
+        return isEnabled() && !HtmlUnitBrowser.isSelected() && driver instanceof JavascriptExecutor;
+    }
+
+    private static void record(String page, String step, Map<Metric, Double> values) {
+        String run = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        List<String> cells = new ArrayList<>(List.of(run, page, step));
+        synchronized (samples) {
+            Map<Metric, List<Double>> metrics = samples.computeIfAbsent(page + "\n" + step, k -> {
+                Map<Metric, List<Double>> lists = new EnumMap<>(Metric.class);
+                for (Metric metric : Metric.values()) {
+                    lists.put(metric, new ArrayList<>());
+                }
+                return lists;
+            });
+            for (Metric metric : Metric.values()) {
+                Double value = values.get(metric);
+                if (value != null) {
+                    metrics.get(metric).add(value);
+                }
+                cells.add(value == null ? "" : String.valueOf(value));
+            }
+            sampleCounts.merge(page + "\n" + step, 1, Integer::sum);
+            history.add(String.join(",", cells.stream().map(cell -> "\"" + cell.replace("\"", "\"\"") + "\"").toList()));
+        }
+    }
+
+    private static void checkBudget(String page, String step, Map<Metric, Double> values) {
+        List<String> breaches = new ArrayList<>();
+        budget().forEach((metric, limit) -> {
+            Double value = values.get(metric);
+            if (value != null && value > limit) {
+                breaches.add(String.format(Locale.ROOT, "%s on %s after %s is %s, budget %s",
+                        metric.label, page, step, format(metric, value), format(metric, limit)));
+            }
+        });
+        if (breaches.isEmpty()) {
+            return;
+        }
+        synchronized (samples) {
+            breachCounts.merge(page + "\n" + step, 1, Integer::sum);
+        }
+        ITestResult result = Reporter.getCurrentTestResult();
+        for (String breach : breaches) {
+            LoggerUtil.warning("Web vitals budget exceeded: " + breach);
+            AllureUtil.fail("Web vitals budget exceeded: " + breach);
+            if (result != null) {
+                synchronized (result) {
+                    List<String> recorded = getBreaches(result);
+                    recorded.add(breach);
+                    result.setAttribute(BREACHES_ATTRIBUTE, recorded);
+                }
+            }
+        }
+    }
+
+    private static Map<Metric, Double> budget() {
+        Map<Metric, Double> budget = new EnumMap<>(Metric.class);
+        String value = ReadTestNG.getParameter(Config.WEB_VITALS_BUDGET);
+        if (value == null || value.isBlank()) {
+            return budget;
+        }
+        for (String pair : value.split(",")) {
+            String[] parts = pair.split("=", 2);
+            Metric metric = parts.length == 2 ? Metric.byKey(parts[0].trim()) : null;
+            try {
+                if (metric == null) {
+                    throw new NumberFormatException(pair);
+                }
+                budget.put(metric, Double.parseDouble(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                LoggerUtil.warning(String.format("Invalid %s parameter: %s", Config.WEB_VITALS_BUDGET, pair));
+            }
+        }
+        return budget;
+    }
+
+    private static String format(Metric metric, double value) {
+        return metric == Metric.CLS ? String.format(Locale.ROOT, "%.3f", value) : String.format(Locale.ROOT, "%.0f", value);
+    }
+
+    private static Double percentile(List<Double> values, double quantile) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(quantile * sorted.size()) - 1);
+    }
+
+    private static void appendHistory(List<String> lines) {
+        try {
+            Files.createDirectories(HISTORY_FILE.getParent());
+            if (!Files.exists(HISTORY_FILE)) {
+                List<String> header = new ArrayList<>(List.of("Run", "Page", "Step"));
+                for (Metric metric : Metric.values()) {
+                    header.add(metric.label);
+                }
+                Files.write(HISTORY_FILE, List.of(String.join(",", header)), StandardCharsets.UTF_8);
+            }
+            Files.write(HISTORY_FILE, lines, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LoggerUtil.warning("Unable to write web vitals history: " + e.getMessage());
+        }
+    }
+}
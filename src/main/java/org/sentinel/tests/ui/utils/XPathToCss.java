@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.ui.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates XPath locators to equivalent CSS selectors, which browsers evaluate faster.
+ *
+ * <p>Only XPaths that have an exact CSS equivalent are translated:</p>
+ * <ul>
+ *   <li>descendant ({@code //}) and child ({@code /}) steps with an element name or {@code *}</li>
+ *   <li>{@code [@attr]}, {@code [@attr='value']}</li>
+ *   <li>{@code [contains(@attr,'value')]}, {@code [starts-with(@attr,'value')]}</li>
+ *   <li>{@code [contains(concat(' ',normalize-space(@class),' '),' name ')]}</li>
+ *   <li>predicates combined with {@code and}</li>
+ * </ul>
+ *
+ * <p>XPaths matching on text, position or other axes have no CSS equivalent and are left as they are.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see LocatorProfiler
+ */
+public class XPathToCss {
+
+    private static final String NAME = "[A-Za-z_][\\w-]*";
+    private static final String LITERAL = "(?:'([^']*)'|\"([^\"]*)\")";
+    private static final Pattern STEP_NAME = Pattern.compile("\\*|" + NAME);
+    private static final Pattern HAS_ATTRIBUTE = Pattern.compile("@(" + NAME + ")");
+    private static final Pattern ATTRIBUTE_EQUALS = Pattern.compile("@(" + NAME + ")\\s*=\\s*" + LITERAL);
+    private static final Pattern ATTRIBUTE_FUNCTION = Pattern.compile("(contains|starts-with)\\(\\s*@(" + NAME + ")\\s*,\\s*" + LITERAL + "\\s*\\)");
+    private static final Pattern CLASS_TOKEN = Pattern.compile(
+            "contains\\(\\s*concat\\(\\s*' '\\s*,\\s*normalize-space\\(\\s*@class\\s*\\)\\s*,\\s*' '\\s*\\)\\s*,\\s*' ([\\w-]+) '\\s*\\)");
+
+    private XPathToCss() {
+    }
+
+    /**
+     * Translates an XPath expression to an equivalent CSS selector.
+     *
+     * @param xpath The XPath expression
+     * @return The CSS selector, or null if the XPath has no exact CSS equivalent
+     */
+    public static String translate(String xpath) {
+        String expression = xpath.trim();
+        if (expression.startsWith(".//")) {
+            expression = expression.substring(1);
+        }
+        if (!expression.startsWith("//")) {
+            return null; // Absolute and relative paths depend on the context node
+        }
+
+        StringBuilder css = new StringBuilder();
+        int position = 0;
+        while (position < expression.length()) {
+            String combinator;
+            if (expression.startsWith("//", position)) {
+                combinator = " ";
+                position += 2;
+            } else if (expression.charAt(position) == '/') {
+                combinator = " > ";
+                position += 1;
+            } else {
+                return null;
+            }
+            Matcher name = STEP_NAME.matcher(expression).region(position, expression.length());
+            if (!name.lookingAt()) {
+                return null; // Axes, text() and parent steps have no CSS equivalent
+            }
+            if (css.length() > 0) {
+                css.append(combinator);
+            }
+            css.append(name.group());
+            position = name.end();
+
+            while (position < expression.length() && expression.charAt(position) == '[') {
+                int end = closingBracket(expression, position);
+                if (end < 0) {
+                    return null;
+                }
+                String predicate = translatePredicate(expression.substring(position + 1, end).trim());
+                if (predicate == null) {
+                    return null;
+                }
+                css.append(predicate);
+                position = end + 1;
+            }
+        }
+        return css.toString();
+    }
+
+    /**
+     * Returns the CSS equivalent of an XPath locator.
+     *
+     * @param locator The locator
+     * @return A CSS locator if the locator is a translatable XPath, otherwise the locator itself
+     */
+    public static By optimize(By locator) {
+        String xpath = xpathOf(locator);
+        String css = xpath == null ? null : translate(xpath);
+        return css == null ? locator : By.cssSelector(css);
+    }
+
+    /**
+     * Returns the XPath expression of a locator.
+     *
+     * @param locator The locator
+     * @return The expression, or null if the locator is not an XPath locator
+     */
+    public static String xpathOf(By locator) {
+        if (locator instanceof By.Remotable remotable && "xpath".equals(remotable.getRemoteParameters().using())) {
+            return String.valueOf(remotable.getRemoteParameters().value());
+        }
+        return null;
+    }
+
+    private static String translatePredicate(String predicate) {
+        StringBuilder css = new StringBuilder();
+        for (String condition : splitAnd(predicate)) {
+            String translated = translateCondition(condition.trim());
+            if (translated == null) {
+                return null;
+            }
+            css.append(translated);
+        }
+        return css.toString();
+    }
+
+    private static String translateCondition(String condition) {
+        Matcher matcher = ATTRIBUTE_EQUALS.matcher(condition);
+        if (matcher.matches()) {
+            return String.format("[%s=%s]", matcher.group(1), quote(literal(matcher, 2)));
+        }
+        matcher = ATTRIBUTE_FUNCTION.matcher(condition);
+        if (matcher.matches()) {
+            String operator = "contains".equals(matcher.group(1)) ? "*=" : "^=";
+            String value = literal(matcher, 3);
+            // An empty value matches every element in XPath, even without the attribute, but none in CSS
+            return value.isEmpty() ? null : String.format("[%s%s%s]", matcher.group(2), operator, quote(value));
+        }
+        matcher = CLASS_TOKEN.matcher(condition);
+        if (matcher.matches()) {
+            return "." + matcher.group(1);
+        }
+        matcher = HAS_ATTRIBUTE.matcher(condition);
+        if (matcher.matches()) {
+            return String.format("[%s]", matcher.group(1));
+        }
+        return null;
+    }
+
+    /**
+     * Splits a predicate on top-level {@code and}. A top-level {@code or} cannot be expressed on a
+     * single compound selector, so the whole predicate is returned and fails to translate.
+     */
+    private static List<String> splitAnd(String predicate) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < predicate.length(); i++) {
+            char c = predicate.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(' || c == '[') {
+                depth++;
+            } else if (c == ')' || c == ']') {
+                depth--;
+            } else if (depth == 0 && predicate.startsWith(" and ", i)) {
+                parts.add(predicate.substring(start, i));
+                start = i + 5;
+                i += 4;
+            }
+        }
+        parts.add(predicate.substring(start));
+        return parts;
+    }
+
+    private static int closingBracket(String expression, int open) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = open; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String literal(Matcher matcher, int group) {
+        return matcher.group(group) != null ? matcher.group(group) : matcher.group(group + 1);
+    }
+
+    private static String quote(String value) {
+        return value.contains("'") ? "\"" + value.replace("\"", "\\\"") + "\"" : "'" + value + "'";
+    }
+}
@@ -101,13 +101,15 @@ public class ExcelUtil {
      * - Total Tests
      * - Passed
      * - Failed
+     * - Slow
      * - Pass %
      * 
      * Each package sheet contains the following columns:
      * - Sr No
      * - Package Name
      * - Method Name
-     * - Status (Pass/Fail/Skip)
+     * - Browser, e.g. of a browser matrix combination
+     * - Status (Pass/Slow/Fail/Skip)
      * - Remark/Error Message
      */
     public static void createExcelFile() {
@@ -219,7 +221,7 @@ public class ExcelUtil {
      * @param testCases A List of Maps where each Map represents a test case with the following keys:
      *                  - "Package": The package name of the test (defaults to "Uncategorized")
      *                  - "Method": The name of the test method
-     *                  - "Status": The test status ("Pass" or "Fail")
+     *                  - "Status": The test status ("Pass", "Slow", "Fail" or "Skip")
      *                  - "Remark": Any additional comments or remarks
      *                  
      * @throws IOException If there are issues with file operations
@@ -250,6 +252,7 @@ public class ExcelUtil {
                     String methodName = testCase.get("Method");
                     String status = testCase.get("Status");
                     String remark = testCase.get("Remark");
+                    String browser = testCase.getOrDefault("Browser", "");
 
                     if (methodName == null || status == null) {
                         continue;
@@ -269,14 +272,15 @@ public class ExcelUtil {
                     newRow.createCell(0).setCellValue(lastRowNum + 1);
                     newRow.createCell(1).setCellValue(packageName);
                     newRow.createCell(2).setCellValue(methodName);
+                    newRow.createCell(3).setCellValue(browser);
 
-                    newRow.createCell(3).setCellValue(status);
+                    newRow.createCell(4).setCellValue(status);
 
-                    Cell statusCell = newRow.createCell(3);
+                    Cell statusCell = newRow.createCell(4);
                     statusCell.setCellValue(status);
                     statusCell.setCellStyle(getStatusCellStyle(workbook, status));
 
-                    newRow.createCell(4).setCellValue(remark);
+                    newRow.createCell(5).setCellValue(remark);
 
                     dataAdded = true;
                     summaryMap.putIfAbsent(packageName, new HashMap<>());
@@ -285,11 +289,14 @@ public class ExcelUtil {
                     packageSummary.putIfAbsent("Total", 0);
                     packageSummary.putIfAbsent("Pass", 0);
                     packageSummary.putIfAbsent("Fail", 0);
+                    packageSummary.putIfAbsent("Slow", 0);
 
                     packageSummary.put("Total", packageSummary.get("Total") + 1);
 
                     if ("Pass".equalsIgnoreCase(status)) {
                         packageSummary.put("Pass", packageSummary.get("Pass") + 1);
+                    } else if ("Slow".equalsIgnoreCase(status)) {
+                        packageSummary.put("Slow", packageSummary.get("Slow") + 1);
                     } else {
                         packageSummary.put("Fail", packageSummary.get("Fail") + 1);
                     }
@@ -327,7 +334,8 @@ public class ExcelUtil {
      * - Sr No
      * - Package Name
      * - Method Name
-     * - Status (Pass/Fail/Skip)
+     * - Browser, e.g. of a browser matrix combination
+     * - Status (Pass/Slow/Fail/Skip)
      * - Remark/Error Message
      *
      * @param sheet The sheet to create the header for
@@ -337,7 +345,7 @@ public class ExcelUtil {
             return;
         }
         Row headerRow = sheet.createRow(0);
-        String[] columns = {"Sr No", "Package", "Method", "Status", "Remark"};
+        String[] columns = {"Sr No", "Package", "Method", "Browser", "Status", "Remark"};
         for (int i = 0; i < columns.length; i++) {
             headerRow.createCell(i).setCellValue(columns[i]);
         }
@@ -350,7 +358,8 @@ public class ExcelUtil {
      * - Total Tests
      * - Passed
      * - Failed
-     * - Pass %
+     * - Slow (passed functionally but exceeded the latency budget)
+     * - Pass % (functional pass rate, Passed and Slow over Total)
      *
      * @param workbook The workbook containing the summary sheet
      * @param summaryMap A map containing package-wise statistics
@@ -369,7 +378,7 @@ public class ExcelUtil {
 
         // Create header row
         Row headerRow = summarySheet.createRow(0);
-        String[] columns = {"Package Name", "Total Tests", "Passed", "Failed", "Pass %"};
+        String[] columns = {"Package Name", "Total Tests", "Passed", "Failed", "Slow", "Pass %"};
         for (int i = 0; i < columns.length; i++) {
             headerRow.createCell(i).setCellValue(columns[i]);
         }
@@ -381,7 +390,8 @@ public class ExcelUtil {
             int total = counts.getOrDefault("Total", 0);
             int passed = counts.getOrDefault("Pass", 0);
             int failed = counts.getOrDefault("Fail", 0);
-            double passPercentage = total > 0 ? (passed * 100.0 / total) : 0;
+            int slow = counts.getOrDefault("Slow", 0);
+            double passPercentage = total > 0 ? ((passed + slow) * 100.0 / total) : 0;
 
             if (total == 0) continue; // Avoid adding empty rows
 
@@ -390,7 +400,8 @@ public class ExcelUtil {
             summaryRow.createCell(1).setCellValue(total);
             summaryRow.createCell(2).setCellValue(passed);
             summaryRow.createCell(3).setCellValue(failed);
-            summaryRow.createCell(4).setCellValue(String.format("%.2f%%", passPercentage));
+            summaryRow.createCell(4).setCellValue(slow);
+            summaryRow.createCell(5).setCellValue(String.format("%.2f%%", passPercentage));
         }
 
         // Auto-size columns for better readability
@@ -414,6 +425,99 @@ public class ExcelUtil {
         }
     }
 
+    /**
+     * Writes one or more report tables into a dedicated sheet of the latest Excel file.
+     * The sheet is deleted and recreated on every call so that it always reflects the
+     * latest data, and it is placed right after the "Summary" sheet when one exists.
+     *
+     * <p>Each table is written as a bold title row, a bold header row and its data rows,
+     * followed by a blank separator row.</p>
+     *
+     * @param sheetName The name of the sheet to write
+     * @param tables    The tables to write, in order
+     */
+    public static void writeReportSheet(String sheetName, List<ReportTable> tables) {
+        synchronized (lock) {
+            if (FILE_PATH_LATEST == null) {
+                FILE_PATH_LATEST = FILE_PATH;
+            }
+            File file = new File(FILE_PATH_LATEST);
+            file.getParentFile().mkdirs(); // Ensure directory exists
+            try (Workbook workbook = openWorkbook(file)) {
+                Sheet sheet = workbook.getSheet(sheetName);
+                if (sheet != null) {
+                    workbook.removeSheetAt(workbook.getSheetIndex(sheet));
+                }
+                sheet = workbook.createSheet(sheetName);
+                if (workbook.getSheet("Summary") != null) {
+                    workbook.setSheetOrder(sheetName, Math.min(1, workbook.getNumberOfSheets() - 1));
+                }
+
+                Font boldFont = workbook.createFont();
+                boldFont.setBold(true);
+                CellStyle boldStyle = workbook.createCellStyle();
+                boldStyle.setFont(boldFont);
+
+                int rowIndex = 0;
+                int maxColumns = 0;
+                for (ReportTable table : tables) {
+                    Row titleRow = sheet.createRow(rowIndex++);
+                    Cell titleCell = titleRow.createCell(0);
+                    titleCell.setCellValue(table.title());
+                    titleCell.setCellStyle(boldStyle);
+
+                    Row headerRow = sheet.createRow(rowIndex++);
+                    for (int i = 0; i < table.columns().length; i++) {
+                        Cell headerCell = headerRow.createCell(i);
+                        headerCell.setCellValue(table.columns()[i]);
+                        headerCell.setCellStyle(boldStyle);
+                    }
+                    maxColumns = Math.max(maxColumns, table.columns().length);
+
+                    for (Object[] values : table.rows()) {
+                        Row row = sheet.createRow(rowIndex++);
+                        for (int i = 0; i < values.length; i++) {
+                            Object value = values[i];
+                            if (value instanceof Number number) {
+                                row.createCell(i).setCellValue(number.doubleValue());
+                            } else {
+                                row.createCell(i).setCellValue(value == null ? "" : value.toString());
+                            }
+                        }
+                    }
+                    rowIndex++; // Blank separator row
+                }
+
+                for (int i = 0; i < maxColumns; i++) {
+                    sheet.autoSizeColumn(i);
+                }
+
+                try (FileOutputStream fos = new FileOutputStream(FILE_PATH_LATEST)) {
+                    workbook.write(fos);
+                }
+                LoggerUtil.info(String.format("Report sheet '%s' written to Excel.", sheetName));
+            } catch (IOException e) {
+                LoggerUtil.error(String.format("Unable to write report sheet '%s': %s", sheetName, e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Opens the given Excel file, or creates a new empty workbook if the file does not exist yet.
+     *
+     * @param file The Excel file to open
+     * @return The opened or newly created workbook
+     * @throws IOException If the existing file cannot be read
+     */
+    private static Workbook openWorkbook(File file) throws IOException {
+        if (!file.exists()) {
+            return new XSSFWorkbook();
+        }
+        try (FileInputStream fis = new FileInputStream(file)) {
+            return new XSSFWorkbook(fis);
+        }
+    }
+
     /**
      * Returns a CellStyle for the given status, applying color coding based on the status.
      * The method uses Apache POI's IndexedColors to set the cell background color.
@@ -432,6 +536,8 @@ public class ExcelUtil {
             style.setFillForegroundColor(IndexedColors.RED.getIndex()); // 🔴 Red
         } else if ("Skip".equalsIgnoreCase(status)) {
             style.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex()); // 🔵 Blue
+        } else if ("Slow".equalsIgnoreCase(status)) {
+            style.setFillForegroundColor(IndexedColors.LIGHT_ORANGE.getIndex()); // 🟠 Orange
         } else {
             style.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex()); // 🟡 Yellow for Warning/Other
         }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe latency statistics in constant memory.
+ *
+ * <p>Latencies are counted in a log-linear histogram instead of being stored, so the memory used
+ * does not grow with the number of samples. Every power of two is split into 32 buckets, which
+ * bounds the error of a reported percentile to about 3%. Count, mean, minimum and maximum are exact.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>
+ * LatencyStats stats = new LatencyStats();
+ * stats.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+ * double p95 = stats.percentileMillis(95);
+ * </pre>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
+public class LatencyStats {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKETS = LINEAR_LIMIT + (Long.SIZE - SUB_BUCKET_BITS - 2) * SUB_BUCKETS;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final long[] histogram = new long[BUCKETS];
+    private long count;
+    private long sumMicros;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros;
+
+    /**
+     * Records one latency sample.
+     *
+     * @param duration The latency, negative values are recorded as zero
+     * @param unit     The unit of the latency
+     */
+    public synchronized void record(long duration, TimeUnit unit) {
+        long micros = Math.max(0, unit.toMicros(duration));
+        histogram[bucketOf(micros)]++;
+        count++;
+        sumMicros += micros;
+        minMicros = Math.min(minMicros, micros);
+        maxMicros = Math.max(maxMicros, micros);
+    }
+
+    /**
+     * Returns the number of recorded samples.
+     *
+     * @return The sample count
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return The mean in milliseconds, or 0 if nothing was recorded
+     */
+    public synchronized double getMeanMillis() {
+        return count == 0 ? 0 : sumMicros / MICROS_PER_MILLI / count;
+    }
+
+    /**
+     * Returns the smallest recorded latency.
+     *
+     * @return The minimum in milliseconds, or 0 if nothing was recorded
+     */
+    public synchronized double getMinMillis() {
+        return count == 0 ? 0 : minMicros / MICROS_PER_MILLI;
+    }
+
+    /**
+     * Returns the largest recorded latency.
+     *
+     * @return The maximum in milliseconds, or 0 if nothing was recorded
+     */
+    public synchronized double getMaxMillis() {
+        return maxMicros / MICROS_PER_MILLI;
+    }
+
+    /**
+     * Returns the latency at the given percentile using the nearest-rank method.
+     *
+     * @param percentile The percentile between 0 and 100
+     * @return The latency in milliseconds, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) {
+                // Clamp to the exact extremes so p0 and p100 are not skewed by the bucket width
+                long value = Math.min(Math.max(valueOf(bucket), minMicros), maxMicros);
+                return value / MICROS_PER_MILLI;
+            }
+        }
+        return maxMicros / MICROS_PER_MILLI;
+    }
+
+    /**
+     * Maps a latency to its histogram bucket. Values below 64 have one bucket each,
+     * larger values share a bucket with values of the same 5 leading bits.
+     */
+    private static int bucketOf(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(micros)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the midpoint of the values counted in a bucket.
+     */
+    private static long valueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long lowerBound = (long) (SUB_BUCKETS + (bucket - LINEAR_LIMIT) % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) / 2;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.utils;
+
+import java.util.List;
+
+/**
+ * A titled table of rows to be written into a report sheet.
+ * Several tables can be written one below the other into the same sheet using
+ * {@link ExcelUtil#writeReportSheet(String, List)}.
+ *
+ * <p>Cell values are written as numbers when they are {@link Number} instances,
+ * otherwise their {@code toString()} value is used.</p>
+ *
+ * @param title   The title row written above the table
+ * @param columns The column headers of the table
+ * @param rows    The data rows, one {@code Object[]} per row
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
+public record ReportTable(String title, String[] columns, List<Object[]> rows) {
+}
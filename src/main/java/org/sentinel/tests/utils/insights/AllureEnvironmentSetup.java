@@ -11,6 +11,10 @@ import org.sentinel.tests.utils.testng.ReadTestNG;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Properties;
 
 /**
@@ -36,6 +40,18 @@ import java.util.Properties;
  * @see LoggerUtil
  */
 public class AllureEnvironmentSetup {
+
+    /**
+     * Start of the status message of a passed test that exceeded its latency budget.
+     */
+    public static final String LATENCY_BUDGET_EXCEEDED = "Latency budget exceeded: ";
+
+    private static final String CATEGORIES = """
+            [
+              {"name": "Slow tests", "matchedStatuses": ["passed"], "messageRegex": "%s.*"}
+            ]
+            """.formatted(LATENCY_BUDGET_EXCEEDED);
+
     private static Properties properties;
 
     private AllureEnvironmentSetup() {
@@ -48,7 +64,7 @@ public class AllureEnvironmentSetup {
      * The following properties are included in the file:
      * - Executed On: The platform where tests are run (from TestNG parameters)
      * - Platform: Operating system name
-     * - Browser: Browser used for testing (from TestNG parameters)
+     * - Browser: Browser used for testing, or the browsers of the browser matrix (from TestNG parameters)
      * - Version: Test version (from TestNG parameters)
      * - URL: Application URL (from TestNG parameters)
      * - Executed By: Username of the person executing the tests
@@ -60,7 +76,9 @@ public class AllureEnvironmentSetup {
             properties = new Properties();
             properties.setProperty("Executed On", ReadTestNG.getParameter("run_on"));
             properties.setProperty("Platform", System.getProperty("os.name"));
-            properties.setProperty("Browser", ReadTestNG.getParameter("browserName"));
+            String browserMatrix = ReadTestNG.getParameter(Config.BROWSER_MATRIX);
+            properties.setProperty("Browser", browserMatrix == null || browserMatrix.isBlank()
+                    ? ReadTestNG.getParameter("browserName") : browserMatrix);
             properties.setProperty("Version", ReadTestNG.getParameter("version"));
             properties.setProperty("URL", ReadTestNG.getParameter("appURL"));
             properties.setProperty("Executed By", System.getProperty("user.name"));
@@ -95,6 +113,20 @@ public class AllureEnvironmentSetup {
         }
     }
 
+    /**
+     * Creates the categories.json file for Allure reporting. It defines the "Slow tests" category,
+     * which lists the tests that passed but exceeded their latency budget.
+     */
+    public static void createCategoriesFile() {
+        try {
+            Path allureResultsDir = Paths.get(System.getProperty("user.dir"), "reports/allure-results");
+            Files.createDirectories(allureResultsDir);
+            Files.writeString(allureResultsDir.resolve("categories.json"), CATEGORIES, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LoggerUtil.error("Unable to create the Allure categories file: " + e.getMessage());
+        }
+    }
+
     public static Properties getProperties() {
         return properties;
     }
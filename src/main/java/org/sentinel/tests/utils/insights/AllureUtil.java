@@ -7,12 +7,9 @@ package org.sentinel.tests.utils.insights;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Description;
 import io.qameta.allure.model.Status;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.sentinel.tests.config.ui.WebDriverManager;
 import org.sentinel.tests.utils.log.LoggerUtil;
 
-import java.io.ByteArrayInputStream;
 import java.lang.reflect.Method;
 
 
@@ -89,17 +86,18 @@ public class AllureUtil {
         }
     }
 
+    /**
+     * Marks a step as failed and, if requested, attaches a screenshot through the {@link ScreenshotPipeline}.
+     *
+     * @param failMsg  The message to log in the Allure report.
+     * @param takeSnap Whether to attach a screenshot of the current browser.
+     */
     public static void fail(final String failMsg, boolean takeSnap) {
         if (!takeSnap){
         LoggerUtil.warning(String.format("Take Screenshot set as %s", takeSnap));}
         fail(failMsg);
         if (takeSnap)
-            Allure.addAttachment(
-                    failMsg,
-                    "image/png",
-                    new ByteArrayInputStream(((TakesScreenshot) WebDriverManager.getDriverInstance()).getScreenshotAs(OutputType.BYTES)),
-                    ".png"
-            );
+            ScreenshotPipeline.capture(WebDriverManager.getDriverInstance(), failMsg);
     }
 
 }
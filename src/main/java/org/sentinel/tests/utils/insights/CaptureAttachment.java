@@ -4,22 +4,28 @@
  */
 package org.sentinel.tests.utils.insights;
 
+import io.qameta.allure.Allure;
 import io.qameta.allure.Attachment;
+import io.qameta.allure.util.PropertiesUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.sentinel.tests.utils.log.LoggerUtil;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Utility class for capturing test execution artifacts such as screenshots and videos.
  * This class provides static methods to capture and attach screenshots from WebDriver
  * and video recordings to test reports using Allure annotations.
  * 
- * The attachments are stored using Allure's @Attachment annotation which automatically
- * handles the attachment of binary data to test reports.
+ * Screenshots are stored using Allure's @Attachment annotation which automatically
+ * handles the attachment of binary data to test reports. Videos and other large files
+ * are linked into the Allure results instead, so they are never loaded into memory.
  *
  * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
  * @version 1.0
@@ -29,6 +35,9 @@ import java.nio.file.Paths;
  */
 public class CaptureAttachment {
 
+    private static final Path RESULTS_DIRECTORY = Paths.get(
+            PropertiesUtils.loadAllureProperties().getProperty("allure.results.directory", "allure-results"));
+
     private CaptureAttachment(){}
 
     /**
@@ -48,24 +57,51 @@ public class CaptureAttachment {
     }
 
     /**
-     * Captures video content from a specified path and attaches it to the test report.
-     * This method reads a video file and converts it to a byte array for attachment purposes.
-     * Uses @Attachment annotation to attach the video to Allure reports.
+     * Attaches a video file to the current Allure step. The file is linked into the Allure results,
+     * see {@link #attachFile(String, String, String, Path)}, so its size does not affect the heap.
+     *
+     * @param videoPath The file system path to the video file to be attached
+     */
+    public static void captureVideo(String videoPath) {
+        if (videoPath != null && Files.exists(Paths.get(videoPath))) {
+            attachFile("Test Execution Video", "video/mp4", ".mp4", Paths.get(videoPath));
+        }
+    }
+
+    /**
+     * Attaches a file to the current Allure step without reading it into memory. The file is hard
+     * linked into the Allure results directory, or copied if it cannot be linked, e.g. because it is
+     * on another file system.
      *
-     * @param videoPath The file system path to the video file to be captured
-     * @return byte array containing the video content, or null if the file doesn't exist or cannot be read
-     * @throws IOException If an I/O error occurs reading the video file
+     * @param name      The name of the attachment
+     * @param type      The content type of the attachment
+     * @param extension The file extension of the attachment, e.g. {@code ".mp4"}
+     * @param file      The file to attach
      */
-    @Attachment(value = "Test Execution Video", type = "video/mp4")
-    public static byte[] captureVideo(String videoPath) {
+    public static void attachFile(String name, String type, String extension, Path file) {
+        String source = Allure.getLifecycle().prepareAttachment(name, type, extension);
+        linkAttachment(source, file);
+    }
+
+    /**
+     * Provides the content of an attachment reserved earlier through
+     * {@link io.qameta.allure.AllureLifecycle#prepareAttachment(String, String, String)} by linking
+     * or copying a file.
+     *
+     * @param source The attachment source returned when the attachment was reserved
+     * @param file   The file holding the content
+     */
+    static void linkAttachment(String source, Path file) {
+        Path target = RESULTS_DIRECTORY.resolve(source);
         try {
-            if (videoPath != null && Files.exists(Paths.get(videoPath))) {
-                return Files.readAllBytes(Paths.get(videoPath)); // Read video as byte[]
+            Files.createDirectories(target.getParent());
+            try {
+                Files.createLink(target, file);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            LoggerUtil.warning(String.format("Unable to attach %s: %s", file, e.getMessage()));
         }
-        return new byte[0];
     }
 }
-
@@ -172,10 +172,12 @@ public class EmailSender {
      * - Total Tests
      * - Passed
      * - Failed
+     * - Slow
      * - Pass %
      *
      * The table includes conditional formatting:
      * - Failed count: Green background for 0, Red background for > 0
+     * - Slow count: Orange background for > 0
      * - Pass percentage: Green background for >= 80%, Orange background for < 80%
      *
      * @param filePath The path to the Excel file containing the test summary
@@ -209,7 +211,7 @@ public class EmailSender {
         summaryContent.append("<table border='1' style='border-collapse:collapse;width:100%;text-align:center;'>");
         summaryContent.append("<tr style='background-color:#343a40;color:white;font-weight:bold;'>");
         summaryContent
-                .append("<th>Package Name</th><th>Total Tests</th><th>Passed</th><th>Failed</th><th>Pass %</th></tr>");
+                .append("<th>Package Name</th><th>Total Tests</th><th>Passed</th><th>Failed</th><th>Slow</th><th>Pass %</th></tr>");
 
         try (FileInputStream fis = new FileInputStream(file);
                 Workbook workbook = new XSSFWorkbook(fis)) {
@@ -240,7 +242,10 @@ public class EmailSender {
                     } else if (colIndex == 3 && cell.getCellType() == CellType.NUMERIC
                             && cell.getNumericCellValue() > 0) {
                         style = "background-color:#f8d7da;color:#721c24;"; // Red for Failed > 0
-                    } else if (colIndex == 4) {
+                    } else if (colIndex == 4 && cell.getCellType() == CellType.NUMERIC
+                            && cell.getNumericCellValue() > 0) {
+                        style = "background-color:#fff3cd;color:#856404;"; // Orange for Slow > 0
+                    } else if (colIndex == 5) {
                         try {
                             double passPercent = Double.parseDouble(cellValue.replace("%", ""));
                             if (passPercent >= 80) {
@@ -14,10 +14,7 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
 import java.util.Base64;
-import java.util.Date;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for retrieving captured session recordings from LambdaTest API.
@@ -33,6 +30,8 @@ import java.util.concurrent.TimeUnit;
  *   <li>Processes JSON responses from the LambdaTest API</li>
  * </ul>
  *
+ * <p>Videos are fetched in the background by {@link VideoQueue}.</p>
+ *
  * <p>Required environment variables:</p>
  * <ul>
  *   <li>LT_USER - LambdaTest username</li>
@@ -44,6 +43,9 @@ import java.util.concurrent.TimeUnit;
  */
 public class GetCapturedSession {
 
+    private static final int CONNECT_TIMEOUT_MILLIS = 30_000;
+    private static final int READ_TIMEOUT_MILLIS = 120_000;
+
     private GetCapturedSession() {
         // Private constructor to prevent instantiation
     }
@@ -68,21 +70,19 @@ public class GetCapturedSession {
 
     /**
      * Retrieves the video URL for a given session ID from the LambdaTest API.
+     * The video is only available once LambdaTest has processed it, so callers poll this
+     * method, see {@link VideoQueue}.
      *
      * @param sessionId The session ID to retrieve the video URL for
-     * @return The video URL as a String, or null if not found
+     * @return The video URL as a String, or null if the video is not ready yet
      * @throws IOException    If an I/O error occurs while fetching the video URL
      * @throws ParseException If an error occurs while parsing the JSON response
      */
-    private static String getVideoUrl(String sessionId) throws IOException, ParseException {
+    static String getVideoUrl(String sessionId) throws IOException, ParseException {
         String apiUrl = String.format("https://api.lambdatest.com/automation/api/v1/sessions/%s/video?video_generated_status=true", sessionId);
-        try {
-            TimeUnit.SECONDS.sleep(30);
-        } catch (InterruptedException e) {
-            throw new IllegalThreadStateException("Issue with local thread sleep.");
-        }
-
         HttpURLConnection connection = (HttpURLConnection) new URL(apiUrl).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
         connection.setRequestMethod("GET");
         connection.setRequestProperty("User-Agent", "Mozilla/5.0");
         String auth = String.format("%s:%s", System.getenv("LT_USER"), System.getenv("LT_ACCESS_KEY"));
@@ -91,7 +91,7 @@ public class GetCapturedSession {
 
         int responseCode = connection.getResponseCode();
         if (responseCode != 200) {
-            LoggerUtil.error("Failed to fetch video URL. Response Code: " + responseCode);
+            LoggerUtil.info(String.format("Video of session %s not ready. Response Code: %d", sessionId, responseCode));
             return null;
         }
 
@@ -103,10 +103,10 @@ public class GetCapturedSession {
         JSONParser parser = new JSONParser();
         JSONObject jsonResponse = (JSONObject) parser.parse(response);
 
-        if (jsonResponse.containsKey("url")) {
+        if (jsonResponse.containsKey("url") && jsonResponse.get("url") != null) {
             return jsonResponse.get("url").toString();
         } else {
-            LoggerUtil.error("Video URL not found in response.");
+            LoggerUtil.info(String.format("Video URL of session %s not found in response yet.", sessionId));
             return null;
         }
     }
@@ -114,14 +114,13 @@ public class GetCapturedSession {
     /**
      * Downloads the video from the given URL and saves it to a specified directory.
      *
-     * @param videoUrl The URL of the video to download
+     * @param videoUrl  The URL of the video to download
+     * @param sessionId The session ID of the video, which names the file so concurrent downloads do not collide
      * @return The path to the downloaded video file
      * @throws IOException If an I/O error occurs while downloading the video
      */
-    private static String downloadVideo(String videoUrl) throws IOException {
-        // Generate dynamic filename with timestamp
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String fileName = "Video_" + timestamp + ".mp4";
+    static String downloadVideo(String videoUrl, String sessionId) throws IOException {
+        String fileName = "Video_" + sessionId + ".mp4";
 
         // Define the save path: {user.dir}/reports/video/
         String saveDirectory = System.getProperty("user.dir") + "/reports/video/";
@@ -133,11 +132,12 @@ public class GetCapturedSession {
         LoggerUtil.info("Saving video to: " + filePath);
 
         if (videoUrl == null || videoUrl.isEmpty()) {
-            LoggerUtil.error("Video URL is null or empty. Cannot download.");
-            return "Video URL is null or empty. Cannot download.";
+            throw new IOException("Video URL is null or empty. Cannot download.");
         }
 
         HttpURLConnection connection = (HttpURLConnection) new URL(videoUrl).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
         connection.setRequestMethod("GET");
         connection.setInstanceFollowRedirects(true);
         connection.setRequestProperty("User-Agent", "Mozilla/5.0");
@@ -154,18 +154,4 @@ public class GetCapturedSession {
         LoggerUtil.info("Video downloaded successfully." + filePath);
         return filePath;
     }
-
-    /**
-     * Retrieves the video path for a given session ID by downloading the video.
-     *
-     * @param sessionId The session ID to retrieve the video path for
-     * @return The path to the downloaded video file
-     */
-    public static String getVideoPath(String sessionId) {
-        try {
-            return downloadVideo(getVideoUrl(sessionId));
-        } catch (IOException | ParseException e) {
-            throw new IllegalStateException("Unable to download video");
-        }
-    }
 }
\ No newline at end of file
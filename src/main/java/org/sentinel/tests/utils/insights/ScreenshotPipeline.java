@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.utils.insights;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.ExcelUtil;
+import org.sentinel.tests.utils.ReportTable;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Captures screenshots for the Allure report without blocking the test thread on encoding and
+ * writing them.
+ *
+ * <p>The test thread only fetches the screenshot from the browser and reserves its attachment in
+ * the current Allure step. Decoding, optional downscaling and compression, and writing the
+ * attachment file run on a small background executor. When its queue is full, the test thread
+ * encodes the screenshot itself, which bounds the memory held by pending screenshots.</p>
+ *
+ * <p>The parameters {@code screenshotFormat} ({@code png} or {@code jpeg}, default {@code png}),
+ * {@code screenshotScale} (default 1.0) and {@code screenshotQuality} (JPEG quality, default 0.8)
+ * control the encoding. PNG screenshots at full scale are written as taken by the browser.</p>
+ *
+ * <p>A screenshot identical to the previous one of the same test, e.g. after several failed soft
+ * assertions on an unchanged page, is not attached again. The screenshots, duplicates, time spent
+ * on the test thread and in the background, and bytes taken and written are written per test to
+ * the "Screenshots" sheet of the Excel report.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see AllureUtil
+ */
+public class ScreenshotPipeline {
+
+    private static final String SHEET_NAME = "Screenshots";
+    private static final int THREADS = 2;
+    private static final int QUEUE_CAPACITY = 8;
+    private static final double DEFAULT_SCALE = 1.0;
+    private static final float DEFAULT_QUALITY = 0.8f;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KB = 1024.0;
+
+    private static final ExecutorService executor = new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+        Thread thread = new Thread(runnable, "screenshot-encoder");
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+    private static final Queue<CompletableFuture<Void>> pending = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<LastScreenshot> lastScreenshot = new ThreadLocal<>();
+    private static final Map<String, ScreenshotStats> stats = new TreeMap<>();
+
+    private ScreenshotPipeline() {
+    }
+
+    /**
+     * Captures a screenshot and attaches it to the current Allure step of the running test.
+     *
+     * @param driver The driver of the browser
+     * @param name   The name of the attachment
+     */
+    public static void capture(WebDriver driver, String name) {
+        capture(driver, name, Reporter.getCurrentTestResult());
+    }
+
+    /**
+     * Captures a screenshot and attaches it to the current Allure step.
+     *
+     * @param driver The driver of the browser
+     * @param name   The name of the attachment
+     * @param result The test the screenshot is accounted to, or null
+     */
+    public static void capture(WebDriver driver, String name, ITestResult result) {
+        if (!(driver instanceof TakesScreenshot screenshotTaker)) {
+            LoggerUtil.warning("Driver cannot take screenshots. Screenshot not captured.");
+            return;
+        }
+        long start = System.nanoTime();
+        ScreenshotStats testStats = statsOf(result);
+        String base64;
+        try {
+            base64 = screenshotTaker.getScreenshotAs(OutputType.BASE64); // Decoded in the background
+        } catch (WebDriverException e) {
+            LoggerUtil.warning("Screenshot not captured: " + e.getMessage());
+            return;
+        }
+        LastScreenshot previous = lastScreenshot.get();
+        if (previous != null && previous.result() == result && previous.base64().equals(base64)) {
+            testStats.duplicates.incrementAndGet();
+            testStats.testThreadNanos.addAndGet(System.nanoTime() - start);
+            LoggerUtil.info(String.format("Screenshot '%s' is identical to the previous one and not attached again.", name));
+            return;
+        }
+        lastScreenshot.set(new LastScreenshot(result, base64));
+
+        Encoding encoding = Encoding.fromParameters();
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, encoding.contentType(), encoding.extension());
+        testStats.screenshots.incrementAndGet();
+        CompletableFuture<Void> written = CompletableFuture.runAsync(() -> {
+            long encodeStart = System.nanoTime();
+            byte[] raw = Base64.getMimeDecoder().decode(base64);
+            byte[] encoded = encoding.encode(raw);
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(encoded));
+            testStats.rawBytes.addAndGet(raw.length);
+            testStats.writtenBytes.addAndGet(encoded.length);
+            testStats.backgroundNanos.addAndGet(System.nanoTime() - encodeStart);
+        }, executor);
+        pending.add(written);
+        testStats.testThreadNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    /**
+     * Waits until all captured screenshots have been written.
+     */
+    public static void awaitPending() {
+        CompletableFuture<Void> written;
+        while ((written = pending.poll()) != null) {
+            try {
+                written.join();
+            } catch (RuntimeException e) {
+                LoggerUtil.warning("Screenshot not written: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Waits for pending screenshots and writes the screenshot overhead per test to the
+     * "Screenshots" sheet of the Excel report. Nothing is written if no screenshot was captured.
+     */
+    public static void writeReport() {
+        awaitPending();
+        List<Object[]> rows = new ArrayList<>();
+        synchronized (stats) {
+            stats.forEach((test, testStats) -> rows.add(testStats.toRow(test)));
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        ExcelUtil.writeReportSheet(SHEET_NAME, List.of(new ReportTable("Per Test", new String[]{"Test", "Screenshots",
+                "Duplicates Skipped", "Test Thread (ms)", "Background (ms)", "Taken (KB)", "Written (KB)"}, rows)));
+    }
+
+    private static ScreenshotStats statsOf(ITestResult result) {
+        String test = result == null ? "Outside tests"
+                : result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        synchronized (stats) {
+            return stats.computeIfAbsent(test, k -> new ScreenshotStats());
+        }
+    }
+
+    private record LastScreenshot(ITestResult result, String base64) {
+    }
+
+    /**
+     * How screenshots are encoded, read from the suite parameters.
+     */
+    private record Encoding(boolean jpeg, double scale, float quality) {
+
+        static Encoding fromParameters() {
+            boolean jpeg = "jpeg".equalsIgnoreCase(ReadTestNG.getParameter(Config.SCREENSHOT_FORMAT))
+                    || "jpg".equalsIgnoreCase(ReadTestNG.getParameter(Config.SCREENSHOT_FORMAT));
+            double scale = ReadTestNG.getDoubleParameter(Config.SCREENSHOT_SCALE, DEFAULT_SCALE);
+            if (scale <= 0 || scale > 1) {
+                LoggerUtil.warning(String.format("Invalid %s parameter: %s", Config.SCREENSHOT_SCALE, scale));
+                scale = DEFAULT_SCALE;
+            }
+            return new Encoding(jpeg, scale, (float) ReadTestNG.getDoubleParameter(Config.SCREENSHOT_QUALITY, DEFAULT_QUALITY));
+        }
+
+        String contentType() {
+            return jpeg ? "image/jpeg" : "image/png";
+        }
+
+        String extension() {
+            return jpeg ? ".jpg" : ".png";
+        }
+
+        /**
+         * Encodes a PNG screenshot. If it cannot be re-encoded, the PNG is returned as it is.
+         */
+        byte[] encode(byte[] png) {
+            if (!jpeg && scale >= 1) {
+                return png;
+            }
+            try {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+                int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+                int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+                BufferedImage target = new BufferedImage(width, height, jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+                Graphics2D graphics = target.createGraphics();
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(image, 0, 0, width, height, jpeg ? Color.WHITE : null, null);
+                graphics.dispose();
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                if (!jpeg) {
+                    ImageIO.write(target, "png", out);
+                    return out.toByteArray();
+                }
+                ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+                try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+                    writer.setOutput(imageOut);
+                    writer.write(null, new IIOImage(target, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+                return out.toByteArray();
+            } catch (IOException | RuntimeException e) {
+                LoggerUtil.warning("Unable to encode screenshot, attaching it as taken: " + e.getMessage());
+                return png;
+            }
+        }
+    }
+
+    /**
+     * Screenshots of one test.
+     */
+    private static class ScreenshotStats {
+        private final AtomicLong screenshots = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong testThreadNanos = new AtomicLong();
+        private final AtomicLong backgroundNanos = new AtomicLong();
+        private final AtomicLong rawBytes = new AtomicLong();
+        private final AtomicLong writtenBytes = new AtomicLong();
+
+        Object[] toRow(String test) {
+            return new Object[]{test, screenshots.get(), duplicates.get(),
+                    String.format("%.1f", testThreadNanos.get() / NANOS_PER_MILLI),
+                    String.format("%.1f", backgroundNanos.get() / NANOS_PER_MILLI),
+                    String.format("%.1f", rawBytes.get() / BYTES_PER_KB),
+                    String.format("%.1f", writtenBytes.get() / BYTES_PER_KB)};
+        }
+    }
+}
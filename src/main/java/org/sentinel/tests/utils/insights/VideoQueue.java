@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.utils.insights;
+
+import io.qameta.allure.Allure;
+import org.json.simple.parser.ParseException;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fetches the session videos of remote UI tests in the background, so test threads do not wait
+ * for LambdaTest to finish processing a video.
+ *
+ * <p>When a test's session ends, {@link #enqueue(String)} reserves the video attachment in the
+ * current Allure step and returns at once. The video endpoint of the session is then polled with
+ * exponential backoff, from 5 up to 60 seconds between polls, until the video is ready. Ready
+ * videos are downloaded by at most {@code videoDownloadConcurrency} (default 2) threads and
+ * linked to their reserved attachment, without being loaded into memory.</p>
+ *
+ * <p>Sessions reused across tests, by the {@code WebDriverPool} or {@code BrowserContext}
+ * isolation, record one video for all the tests they served. It is queued once, when the session
+ * ends, and attached to the test or fixture running at that point.</p>
+ *
+ * <p>{@link #awaitAll()} waits for the queue at suite end, before the reports are generated. A
+ * video that is not ready within {@code videoTimeoutSeconds} (default 600) of its session's end is
+ * given up on and logged.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see GetCapturedSession
+ */
+public class VideoQueue {
+
+    private static final String ATTACHMENT_NAME = "Test Execution Video";
+    private static final long INITIAL_POLL_SECONDS = 5;
+    private static final long MAX_POLL_SECONDS = 60;
+    private static final long DEFAULT_TIMEOUT_SECONDS = 600;
+    private static final int DEFAULT_DOWNLOAD_CONCURRENCY = 2;
+    private static final Queue<CompletableFuture<Void>> jobs = new ConcurrentLinkedQueue<>();
+
+    private VideoQueue() {
+    }
+
+    /**
+     * Queues the video of a finished session for download and attaches it to the current Allure step
+     * once it is ready. Returns immediately.
+     *
+     * @param sessionId The id of the remote session
+     */
+    public static void enqueue(String sessionId) {
+        String source = Allure.getLifecycle().prepareAttachment(ATTACHMENT_NAME, "video/mp4", ".mp4");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ReadTestNG.getLongParameter(Config.VIDEO_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS));
+        CompletableFuture<Void> job = new CompletableFuture<>();
+        jobs.add(job);
+        LoggerUtil.info(String.format("Video of session %s queued for download.", sessionId));
+        Workers.poller.schedule(() -> poll(sessionId, source, deadline, INITIAL_POLL_SECONDS, job),
+                INITIAL_POLL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Waits until all queued videos are attached or given up on.
+     */
+    public static void awaitAll() {
+        CompletableFuture<Void> job;
+        while ((job = jobs.poll()) != null) {
+            try {
+                job.join();
+            } catch (RuntimeException e) {
+                LoggerUtil.warning("Video not attached: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void poll(String sessionId, String source, long deadline, long delaySeconds,
+                             CompletableFuture<Void> job) {
+        String videoUrl;
+        try {
+            videoUrl = GetCapturedSession.getVideoUrl(sessionId);
+        } catch (IOException | ParseException | RuntimeException e) {
+            videoUrl = null;
+            LoggerUtil.warning(String.format("Polling video of session %s failed: %s", sessionId, e.getMessage()));
+        }
+        if (videoUrl != null) {
+            String url = videoUrl;
+            Workers.downloader.execute(() -> download(sessionId, url, source, job));
+            return;
+        }
+        long nextDelay = Math.min(delaySeconds * 2, MAX_POLL_SECONDS);
+        if (System.nanoTime() + TimeUnit.SECONDS.toNanos(nextDelay) > deadline) {
+            job.completeExceptionally(new TimeoutException(String.format("Video of session %s was not ready in time.", sessionId)));
+            return;
+        }
+        Workers.poller.schedule(() -> poll(sessionId, source, deadline, nextDelay, job), nextDelay, TimeUnit.SECONDS);
+    }
+
+    private static void download(String sessionId, String videoUrl, String source, CompletableFuture<Void> job) {
+        try {
+            String videoPath = GetCapturedSession.downloadVideo(videoUrl, sessionId);
+            CaptureAttachment.linkAttachment(source, Paths.get(videoPath));
+            job.complete(null);
+        } catch (IOException | RuntimeException e) {
+            job.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Executors of the queue, created on first use once the suite parameters are loaded.
+     */
+    private static class Workers {
+        private static final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(daemon("video-poller"));
+        private static final ExecutorService downloader = Executors.newFixedThreadPool(
+                (int) Math.max(1, ReadTestNG.getLongParameter(Config.VIDEO_DOWNLOAD_CONCURRENCY, DEFAULT_DOWNLOAD_CONCURRENCY)),
+                daemon("video-downloader"));
+
+        private static ThreadFactory daemon(String name) {
+            return runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package org.sentinel.tests.utils.testng;
 
 import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.ui.utils.DomSnapshot;
 import org.sentinel.tests.utils.insights.AllureUtil;
 import org.sentinel.tests.utils.log.LoggerUtil;
 import org.testng.asserts.IAssert;
@@ -207,6 +208,46 @@ public class AssertLog extends SoftAssert {
         }
     }
 
+    /**
+     * Asserts that an element of a page snapshot was displayed. If not, logs the
+     * failure message and throws an AssertionError.
+     *
+     * @param snapshot The page snapshot
+     * @param field    The field name of the element in the page object
+     * @param passMsg  The message to log if the assertion passes
+     * @param failMsg  The message to log if the assertion fails
+     */
+    public void assertDisplayed(DomSnapshot snapshot, String field, String passMsg, String failMsg) {
+        assertTrue(snapshot.isDisplayed(field), passMsg, failMsg);
+    }
+
+    /**
+     * Asserts that an element of a page snapshot was not displayed. If it was, logs the
+     * failure message and throws an AssertionError.
+     *
+     * @param snapshot The page snapshot
+     * @param field    The field name of the element in the page object
+     * @param passMsg  The message to log if the assertion passes
+     * @param failMsg  The message to log if the assertion fails
+     */
+    public void assertNotDisplayed(DomSnapshot snapshot, String field, String passMsg, String failMsg) {
+        assertFalse(snapshot.isDisplayed(field), passMsg, failMsg);
+    }
+
+    /**
+     * Asserts that the text of an element of a page snapshot equals the expected text,
+     * ignoring case. If not, logs the failure message and throws an AssertionError.
+     *
+     * @param snapshot The page snapshot
+     * @param field    The field name of the element in the page object
+     * @param expected The expected text
+     * @param passMsg  The message to log if the assertion passes
+     * @param failMsg  The message to log if the assertion fails
+     */
+    public void assertText(DomSnapshot snapshot, String field, String expected, String passMsg, String failMsg) {
+        assertString(snapshot.getText(field), expected, passMsg, failMsg);
+    }
+
     /**
      * Asserts that all collected assertion errors are logged and throws an
      * AssertionError if any exist.
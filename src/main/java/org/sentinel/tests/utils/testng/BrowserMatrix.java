@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.utils.testng;
+
+import org.sentinel.tests.base.BaseUIService;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.testng.IAlterSuiteListener;
+import org.testng.ITestResult;
+import org.testng.TestNGException;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TestNG listener that expands UI tests across a matrix of browsers, and of platforms for remote
+ * runs, so a single run covers all combinations concurrently.
+ *
+ * <p>Each {@code <test>} of a suite whose {@code browserMatrix} parameter lists browsers, e.g.
+ * {@code chrome,firefox,edge}, is replaced by one {@code <test>} per browser, named e.g.
+ * {@code all-api-ui-tests [firefox]}, that sets {@code browserName}. For remote runs, the
+ * {@code platformMatrix} parameter, e.g. {@code Windows 10,macOS Ventura}, multiplies the
+ * combinations by platform. Only the UI test classes of a {@code <test>} are expanded; other
+ * classes, e.g. API tests, stay in the original {@code <test>} and run once.</p>
+ *
+ * <p>The combinations run in parallel. How many browsers of one type are open at the same time is
+ * capped by the {@code browserConcurrency} parameter, see
+ * {@link org.sentinel.tests.config.ui.WebDriverManager}. Results are labeled with the
+ * {@link #label(ITestResult) browser} of their combination in the Excel report and the log, and Allure shows
+ * the browser and platform of each test as parameters.</p>
+ *
+ * <p>The listener is registered in the suite XML. Without {@code browserMatrix} it leaves the
+ * suite unchanged.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see org.testng.IAlterSuiteListener
+ */
+public class BrowserMatrix implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        for (XmlSuite suite : suites) {
+            int combinations = 0;
+            for (XmlTest test : new ArrayList<>(suite.getTests())) {
+                combinations += expand(suite, test);
+            }
+            if (combinations > 0) {
+                suite.setParallel(XmlSuite.ParallelMode.TESTS);
+                suite.setThreadCount(Math.max(suite.getThreadCount(), suite.getTests().size()));
+                LoggerUtil.info(String.format("Browser matrix: %d combinations of suite %s run in parallel.", combinations, suite.getName()));
+            }
+        }
+    }
+
+    /**
+     * Returns the label of the browser combination of a test, e.g. {@code chrome} or
+     * {@code firefox on Windows 10} for remote runs.
+     *
+     * @param result The result of the test
+     * @return The label, {@code -} for tests that do not use a browser
+     */
+    public static String label(ITestResult result) {
+        if (!(result.getInstance() instanceof BaseUIService)) {
+            return "-";
+        }
+        String browser = ReadTestNG.getParameter(Config.BROWSER_NAME);
+        String platform = ReadTestNG.getParameter(Config.PLATFORM);
+        boolean remote = Config.RUN_ON_REMOTE.equalsIgnoreCase(ReadTestNG.getParameter(Config.RUN_ON));
+        return remote && platform != null && !platform.isBlank() ? browser + " on " + platform : String.valueOf(browser);
+    }
+
+    /**
+     * Replaces the UI classes of a test with one test per browser combination.
+     *
+     * @return The number of combinations added, 0 if the test is not expanded
+     */
+    private static int expand(XmlSuite suite, XmlTest test) {
+        List<String> browsers = list(test.getParameter(Config.BROWSER_MATRIX));
+        if (browsers.isEmpty()) {
+            return 0;
+        }
+        List<XmlClass> uiClasses = new ArrayList<>();
+        List<XmlClass> otherClasses = new ArrayList<>();
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            (isUiTest(xmlClass) ? uiClasses : otherClasses).add(xmlClass);
+        }
+        if (uiClasses.isEmpty()) {
+            return 0;
+        }
+        List<String> platforms = Config.RUN_ON_REMOTE.equalsIgnoreCase(test.getParameter(Config.RUN_ON))
+                ? list(test.getParameter(Config.PLATFORM_MATRIX)) : List.of();
+
+        int combinations = 0;
+        for (String browser : browsers) {
+            for (String platform : platforms.isEmpty() ? Arrays.asList((String) null) : platforms) {
+                Map<String, String> parameters = new HashMap<>(test.getLocalParameters());
+                parameters.put(Config.BROWSER_NAME, browser);
+                if (platform != null) {
+                    parameters.put(Config.PLATFORM, platform);
+                }
+                XmlTest combination = new XmlTest(suite);
+                combination.setName(String.format("%s [%s]", test.getName(), platform == null ? browser : browser + " on " + platform));
+                combination.setParameters(parameters);
+                List<XmlClass> classes = new ArrayList<>();
+                for (XmlClass xmlClass : uiClasses) {
+                    classes.add((XmlClass) xmlClass.clone());
+                }
+                combination.setXmlClasses(classes);
+                combination.setThreadCount(test.getThreadCount());
+                combination.setParallel(test.getParallel());
+                combination.setPreserveOrder(test.getPreserveOrder());
+                combination.setVerbose(test.getVerbose());
+                combination.setIncludedGroups(test.getIncludedGroups());
+                combination.setExcludedGroups(test.getExcludedGroups());
+                combinations++;
+            }
+        }
+        if (otherClasses.isEmpty()) {
+            suite.getTests().remove(test);
+        } else {
+            test.setXmlClasses(otherClasses);
+        }
+        return combinations;
+    }
+
+    private static boolean isUiTest(XmlClass xmlClass) {
+        try {
+            return BaseUIService.class.isAssignableFrom(xmlClass.getSupportClass());
+        } catch (TestNGException e) {
+            LoggerUtil.warning(String.format("Unable to load test class %s: %s", xmlClass.getName(), e.getMessage()));
+            return false;
+        }
+    }
+
+    private static List<String> list(String value) {
+        List<String> values = new ArrayList<>();
+        if (value != null) {
+            for (String item : value.split(",")) {
+                if (!item.isBlank()) {
+                    values.add(item.trim());
+                }
+            }
+        }
+        return values;
+    }
+}
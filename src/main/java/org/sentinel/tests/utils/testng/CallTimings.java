@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.utils.testng;
+
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records how long the calls of each test take and checks them against its {@link LatencyBudget}.
+ *
+ * <p>Timings are stored as an attribute of the TestNG result of the test that made the call,
+ * so tests running in parallel do not see each other's timings. Calls made outside a test,
+ * e.g. in a {@code @BeforeSuite} method, are not recorded.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see LatencyBudget
+ */
+public class CallTimings {
+
+    private static final String TIMINGS_ATTRIBUTE = "callTimings";
+    private static final String BREACHES_ATTRIBUTE = "latencyBudgetBreaches";
+
+    private CallTimings() {
+    }
+
+    /**
+     * A timed call.
+     *
+     * @param step          The step name, e.g. {@code "POST auth"}
+     * @param target        Where the call was sent, e.g. the environment or host
+     * @param elapsedMillis The time the call took
+     */
+    public record CallTiming(String step, String target, long elapsedMillis) {
+    }
+
+    /**
+     * Records a call for the test running on the current thread.
+     *
+     * @param step          The step name, e.g. {@code "POST auth"}
+     * @param target        Where the call was sent, e.g. the environment or host
+     * @param elapsedMillis The time the call took
+     */
+    public static void record(String step, String target, long elapsedMillis) {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null) {
+            return;
+        }
+        timingsOf(result).add(new CallTiming(step, target, elapsedMillis));
+    }
+
+    /**
+     * Returns the calls recorded for a test.
+     *
+     * @param result The result of the test
+     * @return A snapshot of the recorded calls in completion order
+     */
+    public static List<CallTiming> getTimings(ITestResult result) {
+        List<CallTiming> timings = timingsOf(result);
+        synchronized (timings) {
+            return new ArrayList<>(timings);
+        }
+    }
+
+    /**
+     * Checks the calls of a test against its latency budget and stores the breaches on the result.
+     *
+     * @param result The result of the test
+     * @return A description of each breach, empty if the test has no budget or kept within it
+     */
+    public static List<String> checkBudget(ITestResult result) {
+        LatencyBudget budget = budgetOf(result);
+        if (budget == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> breaches = new ArrayList<>();
+        long total = 0;
+        for (CallTiming timing : getTimings(result)) {
+            total += timing.elapsedMillis();
+            long limit = budget.maxMillis();
+            for (LatencyBudget.Step step : budget.steps()) {
+                if (matches(step.name(), timing.step())) {
+                    limit = step.maxMillis();
+                    break;
+                }
+            }
+            if (limit >= 0 && timing.elapsedMillis() > limit) {
+                breaches.add(String.format("%s [%s] took %d ms, budget %d ms", timing.step(), timing.target(), timing.elapsedMillis(), limit));
+            }
+        }
+        if (budget.totalMillis() >= 0 && total > budget.totalMillis()) {
+            breaches.add(String.format("All calls took %d ms, budget %d ms", total, budget.totalMillis()));
+        }
+        result.setAttribute(BREACHES_ATTRIBUTE, breaches);
+        return breaches;
+    }
+
+    /**
+     * Returns the breaches found by the last {@link #checkBudget(ITestResult)} of a test.
+     *
+     * @param result The result of the test
+     * @return The breaches, empty if the test was not checked or kept within its budget
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> getBreaches(ITestResult result) {
+        Object breaches = result.getAttribute(BREACHES_ATTRIBUTE);
+        return breaches == null ? Collections.emptyList() : (List<String>) breaches;
+    }
+
+    /**
+     * Matches a budget step name against the step name of a call. Comparison ignores case and
+     * leading slashes of the path, and a step name without a method matches any method.
+     */
+    static boolean matches(String budgetStep, String callStep) {
+        String budget = budgetStep.trim().toLowerCase(Locale.ROOT);
+        String call = callStep.trim().toLowerCase(Locale.ROOT);
+        int callSeparator = call.indexOf(' ');
+        String callPath = stripSlash(call.substring(callSeparator + 1));
+        int budgetSeparator = budget.indexOf(' ');
+        if (budgetSeparator < 0) {
+            return stripSlash(budget).equals(callPath);
+        }
+        return budget.substring(0, budgetSeparator).equals(call.substring(0, Math.max(callSeparator, 0)))
+                && stripSlash(budget.substring(budgetSeparator + 1)).equals(callPath);
+    }
+
+    private static String stripSlash(String path) {
+        String trimmed = path.trim();
+        while (trimmed.startsWith("/")) {
+            trimmed = trimmed.substring(1);
+        }
+        return trimmed;
+    }
+
+    private static LatencyBudget budgetOf(ITestResult result) {
+        Method method = result.getMethod().getConstructorOrMethod().getMethod();
+        if (method == null) {
+            return null;
+        }
+        LatencyBudget budget = method.getAnnotation(LatencyBudget.class);
+        return budget != null ? budget : result.getTestClass().getRealClass().getAnnotation(LatencyBudget.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<CallTiming> timingsOf(ITestResult result) {
+        synchronized (result) {
+            Object timings = result.getAttribute(TIMINGS_ATTRIBUTE);
+            if (timings == null) {
+                timings = Collections.synchronizedList(new ArrayList<CallTiming>());
+                result.setAttribute(TIMINGS_ATTRIBUTE, timings);
+            }
+            return (List<CallTiming>) timings;
+        }
+    }
+}
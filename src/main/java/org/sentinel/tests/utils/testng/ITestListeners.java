@@ -4,11 +4,27 @@
  */
 package org.sentinel.tests.utils.testng;
 
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.StatusDetails;
 import org.openqa.selenium.WebDriver;
+import org.sentinel.tests.config.EnvironmentUnavailableException;
+import org.sentinel.tests.config.api.APIMetrics;
+import org.sentinel.tests.config.ui.BrowserContext;
+import org.sentinel.tests.config.ui.BrowserFootprint;
+import org.sentinel.tests.config.ui.CommandTimer;
+import org.sentinel.tests.config.ui.HtmlUnitBrowser;
+import org.sentinel.tests.config.ui.NetworkBlocker;
+import org.sentinel.tests.ui.utils.CachingElementLocatorFactory;
+import org.sentinel.tests.ui.utils.LocatorProfiler;
+import org.sentinel.tests.ui.utils.Wait;
+import org.sentinel.tests.ui.utils.WebVitals;
 import org.sentinel.tests.constants.Config;
 import org.sentinel.tests.utils.log.LoggerUtil;
-import org.sentinel.tests.utils.insights.CaptureAttachment;
+import org.sentinel.tests.utils.insights.AllureEnvironmentSetup;
+import org.sentinel.tests.utils.insights.ScreenshotPipeline;
 import org.sentinel.tests.utils.ExcelUtil;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -25,6 +41,8 @@ import java.util.*;
  * - Captures screenshots on test failures when WebDriver is available
  * - Maintains test results in a thread-safe collection
  * - Exports test results to Excel at the end of test execution
+ * - Exports API bandwidth and connection phase statistics to Excel at the end of test execution
+ * - Enforces {@link LatencyBudget} annotations and reports tests over budget as "Slow"
  * <p>
  * The listener tracks the following test events:
  * - Test start/finish
@@ -44,7 +62,7 @@ import java.util.*;
  * @see org.testng.ITestListener
  * @see org.openqa.selenium.WebDriver
  */
-public class ITestListeners implements ITestListener {
+public class ITestListeners implements ITestListener, IInvokedMethodListener {
     protected List<Map<String, String>> testCasesResultMap;
 
 
@@ -70,18 +88,67 @@ public class ITestListeners implements ITestListener {
      */
     @Override
     public void onTestStart(ITestResult result) {
-        LoggerUtil.info("********** Test Started.....**********");
+        LoggerUtil.info(String.format("********** Test Started: %s [%s] **********", result.getMethod().getMethodName(), BrowserMatrix.label(result)));
+    }
+
+    /**
+     * Called after a test or configuration method returns, before its result is reported.
+     * Logs the time the test spent in {@link Wait explicit waits}.
+     * Checks the calls of a test method against its {@link LatencyBudget}. Each breach is logged
+     * as a broken Allure step and the test is tagged {@code SLOW}, without changing its outcome.
+     * Allure has no status of its own for slow tests, so a slow test that passed keeps the status
+     * passed and carries the breaches as its status message, which puts it in the "Slow tests"
+     * category of the report, see {@link AllureEnvironmentSetup#createCategoriesFile()}.
+     * A passed test whose steps exceeded the {@link WebVitals} budget is failed.
+     *
+     * @param method     The invoked method
+     * @param testResult The result of the invoked method
+     * @see org.testng.IInvokedMethodListener#afterInvocation(IInvokedMethod, ITestResult)
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        long waitedMillis = Wait.getWaitedMillis(testResult);
+        if (waitedMillis > 0) {
+            LoggerUtil.info(String.format("Time spent waiting: %d ms", waitedMillis));
+        }
+        List<String> vitalsBreaches = WebVitals.getBreaches(testResult);
+        if (!vitalsBreaches.isEmpty() && testResult.getStatus() == ITestResult.SUCCESS) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError("Web vitals budget exceeded: " + String.join("; ", vitalsBreaches)));
+        }
+        List<String> breaches = CallTimings.checkBudget(testResult);
+        if (breaches.isEmpty()) {
+            return;
+        }
+        Allure.label("tag", "SLOW");
+        if (testResult.getStatus() == ITestResult.SUCCESS) {
+            String message = AllureEnvironmentSetup.LATENCY_BUDGET_EXCEEDED + String.join("; ", breaches);
+            Allure.getLifecycle().updateTestCase(result -> result.setStatusDetails(new StatusDetails().setMessage(message)));
+        }
+        for (String breach : breaches) {
+            LoggerUtil.warning("Latency budget exceeded: " + breach);
+        }
     }
 
     /**
      * Called when a test method finishes its execution.
-     * Logs the end of test method execution using LoggerUtil.
+     * Logs the end of test method execution using LoggerUtil. A test that exceeded its
+     * latency budget is recorded as "Slow" instead of "Pass".
      *
      * @param result The result of the test method execution
      * @see org.testng.ITestListener#onTestSuccess(org.testng.ITestResult)
      */
     @Override
     public void onTestSuccess(ITestResult result) {
+        List<String> breaches = CallTimings.getBreaches(result);
+        if (!breaches.isEmpty()) {
+            addTestResult(result, "Slow", "Latency budget exceeded: " + String.join("; ", breaches));
+            LoggerUtil.warning("********** Test Passed but Slow. **********");
+            return;
+        }
         addTestResult(result, "Pass", "Test executed successfully");
         LoggerUtil.info("********** Test Passed. **********");
     }
@@ -99,7 +166,7 @@ public class ITestListeners implements ITestListener {
         ITestContext context = result.getTestContext();
         WebDriver driver = (WebDriver) context.getAttribute("driver");
         if (driver != null) {
-            CaptureAttachment.captureScreenshot(driver);
+            ScreenshotPipeline.capture(driver, "Screenshot", result);
             LoggerUtil.info("Screenshot not captured.");// Capture screenshot
         } else {
             LoggerUtil.warning("Driver is null. Screenshot not captured.");
@@ -110,13 +177,19 @@ public class ITestListeners implements ITestListener {
 
     /**
      * Called when a test method is skipped.
-     * Logs the skip status using LoggerUtil.
+     * Logs the skip status using LoggerUtil. Tests skipped because their environment is
+     * unavailable keep the circuit breaker message as remark.
      *
      * @param result The result of the test method execution
      * @see org.testng.ITestListener#onTestSkipped(org.testng.ITestResult)
      */
     @Override
     public void onTestSkipped(ITestResult result) {
+        if (result.getThrowable() instanceof EnvironmentUnavailableException) {
+            addTestResult(result, "Skip", result.getThrowable().getMessage());
+            LoggerUtil.warning("********** Test Skipped: Environment Unavailable. **********");
+            return;
+        }
         addTestResult(result, "Skip", "Test was skipped");
     }
 
@@ -133,6 +206,23 @@ public class ITestListeners implements ITestListener {
         if (!testCasesResultMap.isEmpty()) {
             ExcelUtil.addTestCases(testCasesResultMap);
         }
+        APIMetrics.writeBandwidthReport();
+        APIMetrics.writeConnectionPhaseReport();
+        APIMetrics.writeEnvironmentLatencyReport();
+        BrowserFootprint.writeReport();
+        BrowserContext.writeReport();
+        CommandTimer.writeReport();
+        HtmlUnitBrowser.writeReport();
+        NetworkBlocker.writeReport();
+        ScreenshotPipeline.writeReport();
+        LocatorProfiler.writeReport();
+        WebVitals.writeReport();
+        AllureEnvironmentSetup.createCategoriesFile();
+        if (CachingElementLocatorFactory.getHits() + CachingElementLocatorFactory.getMisses() > 0) {
+            LoggerUtil.info(String.format("Element cache: %d hits, %d misses, %d stale elements re-located.",
+                    CachingElementLocatorFactory.getHits(), CachingElementLocatorFactory.getMisses(),
+                    CachingElementLocatorFactory.getRelocations()));
+        }
         LoggerUtil.info("********** Test Execution Completed.....**********");
     }
 
@@ -141,7 +231,7 @@ public class ITestListeners implements ITestListener {
      * This method is synchronized to ensure thread safety when adding results.
      *
      * @param result The result of the test method execution
-     * @param status The status of the test (e.g., "Pass", "Fail", "Skip")
+     * @param status The status of the test (e.g., "Pass", "Slow", "Fail", "Skip")
      * @param remark Additional remarks or error messages related to the test result
      */
     private void addTestResult(ITestResult result, String status, String remark) {
@@ -170,6 +260,7 @@ public class ITestListeners implements ITestListener {
         Map<String, String> resultMap = new HashMap<>();
         resultMap.put("Package", packageName);
         resultMap.put("Method", result.getMethod().getMethodName());
+        resultMap.put("Browser", BrowserMatrix.label(result));
         resultMap.put("Status", status);
         resultMap.put("Remark", remark);
 
@@ -177,6 +268,7 @@ public class ITestListeners implements ITestListener {
         synchronized (testCasesResultMap) {
             testCasesResultMap.add(resultMap);
         }
+        HtmlUnitBrowser.record(result);
         LoggerUtil.info("Test Result Added: " + resultMap);
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.utils.testng;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares response-time budgets for the calls a test makes to the system under test.
+ *
+ * <p>API requests sent through {@code APIExecutor} and page navigations made through the
+ * WebDriver are timed per test by {@link CallTimings}. After the test method returns,
+ * {@link ITestListeners} compares the timings with the budget. A test that passes functionally
+ * but exceeds its budget is reported with the status "Slow" in the Excel report, so performance
+ * regressions are visible apart from functional failures. Allure only knows the statuses passed,
+ * failed, broken and skipped, so there the test stays passed, is tagged {@code SLOW} and is listed
+ * under the "Slow tests" category.</p>
+ *
+ * <p>Steps are named after the call they time: {@code "POST auth"} for an API request or
+ * {@code "NAVIGATE /login"} for a page navigation. A step name without a method, e.g.
+ * {@code "auth"}, matches every call to that path. Leading slashes are ignored.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>
+ * &#64;Test
+ * &#64;LatencyBudget(maxMillis = 2000, steps = &#64;LatencyBudget.Step(name = "POST auth", maxMillis = 800))
+ * public void getToken() { ... }
+ * </pre>
+ *
+ * <p>A budget on a test class applies to all its test methods that do not declare their own.</p>
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see CallTimings
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface LatencyBudget {
+
+    /**
+     * The maximum time of any single call made by the test, in milliseconds.
+     * Calls matched by a {@link #steps() step} budget are checked against that budget instead.
+     *
+     * @return The per-call budget, or -1 for no limit
+     */
+    long maxMillis() default -1;
+
+    /**
+     * The maximum time of all calls made by the test together, in milliseconds.
+     *
+     * @return The total budget, or -1 for no limit
+     */
+    long totalMillis() default -1;
+
+    /**
+     * Budgets for individual steps of the test.
+     *
+     * @return The step budgets
+     */
+    Step[] steps() default {};
+
+    /**
+     * The budget of every call matching a step name.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({})
+    @interface Step {
+
+        /**
+         * The step name, e.g. {@code "POST auth"}, {@code "auth"} or {@code "NAVIGATE /login"}.
+         *
+         * @return The step name
+         */
+        String name();
+
+        /**
+         * The maximum time of each matching call, in milliseconds.
+         *
+         * @return The step budget
+         */
+        long maxMillis();
+    }
+}
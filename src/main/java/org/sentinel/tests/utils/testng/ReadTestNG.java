@@ -6,9 +6,14 @@ package org.sentinel.tests.utils.testng;
 
 import org.sentinel.tests.utils.log.LoggerUtil;
 import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Utility class for managing TestNG test parameters.
@@ -23,6 +28,11 @@ import java.util.Map;
  *   <li>Get all stored parameters</li>
  * </ul>
  *
+ * <p>While a test or configuration method runs, parameters are read from its {@code <test>} first,
+ * so tests of several {@code <test>} elements running in parallel, e.g. the combinations of the
+ * {@link BrowserMatrix}, each see their own values. Code running on other threads can be given the
+ * parameters of a test with {@link #withParameters(Map, Supplier)}.
+ *
  * <p>Usage example:
  * <pre>
  * {@code
@@ -38,7 +48,9 @@ import java.util.Map;
  * @version 1.0
  */
 public class ReadTestNG {
-    private static final Map<String, String> paramMap = new HashMap<>();
+    private static final String TEST_PARAMETERS_ATTRIBUTE = "testParameters";
+    private static final Map<String, String> paramMap = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, String>> scopedParameters = new ThreadLocal<>();
 
     private ReadTestNG(){}
 
@@ -62,7 +74,91 @@ public class ReadTestNG {
      * @return The value of the parameter, or null if not found
      */
     public static String getParameter(String key) {
-        return paramMap.get(key);
+        Map<String, String> parameters = scopedParameters.get();
+        if (parameters == null) {
+            parameters = getTestParameters();
+        }
+        String value = parameters.get(key);
+        return value != null ? value : paramMap.get(key);
+    }
+
+    /**
+     * Retrieves the parameters of the {@code <test>} running on the current thread, including
+     * those inherited from the suite.
+     *
+     * @return The parameters, empty if no test or configuration method is running on this thread
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> getTestParameters() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null) {
+            return Collections.emptyMap();
+        }
+        ITestContext context = result.getTestContext();
+        synchronized (context) {
+            Object parameters = context.getAttribute(TEST_PARAMETERS_ATTRIBUTE);
+            if (parameters == null) {
+                parameters = Collections.unmodifiableMap(new HashMap<>(context.getCurrentXmlTest().getAllParameters()));
+                context.setAttribute(TEST_PARAMETERS_ATTRIBUTE, parameters);
+            }
+            return (Map<String, String>) parameters;
+        }
+    }
+
+    /**
+     * Runs code with the given parameters, e.g. those of a test, taking precedence on the current thread.
+     *
+     * @param parameters The parameters, as returned by {@link #getTestParameters()}
+     * @param action     The code to run
+     * @param <T>        The type of the result
+     * @return The result of the code
+     */
+    public static <T> T withParameters(Map<String, String> parameters, Supplier<T> action) {
+        Map<String, String> previous = scopedParameters.get();
+        scopedParameters.set(parameters);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                scopedParameters.remove();
+            } else {
+                scopedParameters.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Retrieves a whole-number parameter.
+     *
+     * @param key          The key for the parameter to retrieve
+     * @param defaultValue The value if the parameter is missing, blank or not a number
+     * @return The value of the parameter, or the default value
+     */
+    public static long getLongParameter(String key, long defaultValue) {
+        String value = getParameter(key);
+        try {
+            return value == null || value.isBlank() ? defaultValue : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LoggerUtil.warning(String.format("Invalid %s parameter: %s", key, value));
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Retrieves a decimal parameter.
+     *
+     * @param key          The key for the parameter to retrieve
+     * @param defaultValue The value if the parameter is missing, blank or not a number
+     * @return The value of the parameter, or the default value
+     */
+    public static double getDoubleParameter(String key, double defaultValue) {
+        String value = getParameter(key);
+        try {
+            return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            LoggerUtil.warning(String.format("Invalid %s parameter: %s", key, value));
+            return defaultValue;
+        }
     }
 
     /**
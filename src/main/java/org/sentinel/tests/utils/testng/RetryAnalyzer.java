@@ -1,5 +1,6 @@
 package org.sentinel.tests.utils.testng;
 
+import org.sentinel.tests.config.EnvironmentUnavailableException;
 import org.sentinel.tests.constants.Config;
 import org.sentinel.tests.utils.log.LoggerUtil;
 import org.testng.IRetryAnalyzer;
@@ -26,12 +27,17 @@ public class RetryAnalyzer implements IRetryAnalyzer {
 
     /**
      * Method called by TestNG to determine if a failed test should be retried.
+     * Tests that failed because their environment is unavailable are never retried.
      *
      * @param result The result of the test case that just ran
      * @return true if the test should be retried, false otherwise
      */
     @Override
     public boolean retry(ITestResult result) {
+        if (result.getThrowable() instanceof EnvironmentUnavailableException) {
+            LoggerUtil.warning(String.format("Not retrying %s: %s", result.getName(), result.getThrowable().getMessage()));
+            return false;
+        }
         if (retryCount < MAX_RETRY_COUNT) {
             retryCount++;
             LoggerUtil.info("Retrying " + result.getName() + " (" + retryCount + "/" + MAX_RETRY_COUNT + ")");
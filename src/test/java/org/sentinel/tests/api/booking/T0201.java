@@ -1,20 +1,23 @@
 package org.sentinel.tests.api.booking;
 
 import io.qameta.allure.Description;
-import io.restassured.response.Response;
 import org.sentinel.tests.base.BaseAPIService;
+import org.sentinel.tests.config.api.EnvironmentResponse;
 import org.sentinel.tests.utils.JsonUtil;
 import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.LatencyBudget;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 public class T0201 extends BaseAPIService {
     private final String dataFile = "booking.json";
-    private Response response;
+    private List<EnvironmentResponse> responses;
 
     @Test
     @Description("Verify user able to get access token.")
+    @LatencyBudget(steps = @LatencyBudget.Step(name = "POST auth", maxMillis = 2000))
     public void getToken() throws NoSuchMethodException {
 
         String methodName = this.getClass().getEnclosingMethod().getName();
@@ -27,8 +30,8 @@ public class T0201 extends BaseAPIService {
 
         //Step 1 Started
         LoggerUtil.info("Step 1: Started.....");
-        response = bookingService.getToken(endpointPost, reqBody);
-        assertLog.assertTrue(response.getStatusCode() == 200, "Step 1 : Access token generated successfully.", "Step 1 : User un-authorized.");
+        responses = acrossEnvironments(service -> service.getToken(endpointPost, reqBody));
+        assertEachEnvironment(responses, response -> response.getStatusCode() == 200, "Step 1 : Access token generated successfully.", "Step 1 : User un-authorized.");
 
         assertLog.assertAllWithLog();
     }
@@ -46,8 +49,8 @@ public class T0201 extends BaseAPIService {
 
         //Step 1 Started
         LoggerUtil.info("Step 1: Started.....");
-        response = bookingService.getBookingIds(endpointGet);
-        assertLog.assertTrue(response.getStatusCode() == 2003, "Step 1 : Booking Ids displayed.", "Step 1 : Booking Ids not displayed.");
+        responses = acrossEnvironments(service -> service.getBookingIds(endpointGet));
+        assertEachEnvironment(responses, response -> response.getStatusCode() == 2003, "Step 1 : Booking Ids displayed.", "Step 1 : Booking Ids not displayed.");
         assertLog.assertString("SSD", "SDSD", "String paass", "String fails");
         assertLog.assertAllWithLog();
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.api.replay;
+
+import io.qameta.allure.Description;
+import org.sentinel.tests.base.BaseAPIService;
+import org.sentinel.tests.config.api.APIRequestManager;
+import org.sentinel.tests.config.api.TrafficReplay;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.log.LoggerUtil;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Replays the access log or NDJSON file set by the {@code replayLog} parameter against
+ * {@code baseURI}, with the {@code replayConcurrency} and {@code replaySpeed} parameters, and
+ * writes the statistics to the "Traffic Replay" sheet of the Excel report. Skipped when no log is
+ * set.
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ * @see TrafficReplay
+ */
+public class TrafficReplayTest extends BaseAPIService {
+
+    @Test
+    @Description("Replay production-shaped traffic against the test environment.")
+    public void replayTraffic() throws IOException {
+        String replayLog = ReadTestNG.getParameter(Config.REPLAY_LOG);
+        if (replayLog == null || replayLog.isBlank()) {
+            throw new SkipException("No replayLog parameter set, nothing to replay.");
+        }
+        Path logFile = Paths.get(replayLog.trim());
+        if (!Files.isRegularFile(logFile)) {
+            throw new SkipException("Replay log not found: " + logFile.toAbsolutePath());
+        }
+
+        LoggerUtil.info("Step 1: Started.....");
+        TrafficReplay.ReplayReport report = new TrafficReplay(new APIRequestManager("replay", baseURI)).replay(logFile);
+        report.writeToExcel();
+
+        assertLog.assertTrue(report.requests() > 0, "Step 1 : Replayed " + report.requests() + " requests.",
+                "Step 1 : No request could be replayed from " + logFile + ".");
+        assertLog.assertAllWithLog();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.api;
+
+import org.sentinel.tests.config.CircuitBreaker;
+import org.sentinel.tests.config.EnvironmentUnavailableException;
+import org.sentinel.tests.enums.CircuitState;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies that {@link EnvironmentFanOut} reports an environment behind an open
+ * {@link CircuitBreaker} as a skip instead of a failed environment, so the calling test is
+ * skipped and not retried. The environment is a local port nothing listens on.
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
+public class EnvironmentFanOutTest {
+
+    private static final int MAX_TRIP_CALLS = 10;
+
+    @Test
+    public void openBreakerSkipsFannedOutCall() throws IOException {
+        String baseURI = "http://127.0.0.1:" + closedPort();
+        APIExecutor executor = new APIExecutor("dev", baseURI);
+
+        // Connection failures are reported per environment until the breaker opens
+        CircuitBreaker breaker = CircuitBreaker.forUrl(baseURI);
+        for (int i = 0; i < MAX_TRIP_CALLS && breaker.getState() != CircuitState.OPEN; i++) {
+            List<EnvironmentResponse> responses = EnvironmentFanOut.run(Map.of("dev", executor), target -> target.get("/booking"));
+            Assert.assertFalse(responses.get(0).hasResponse(), "Call to a closed port returned a response.");
+        }
+        Assert.assertEquals(breaker.getState(), CircuitState.OPEN);
+
+        SkipException single = Assert.expectThrows(SkipException.class,
+                () -> EnvironmentFanOut.run(Map.of("dev", executor), target -> target.get("/booking")));
+        Assert.assertTrue(single instanceof EnvironmentUnavailableException, "Unexpected skip: " + single);
+
+        Map<String, APIExecutor> targets = new LinkedHashMap<>();
+        targets.put("dev", executor);
+        targets.put("staging", new APIExecutor("staging", baseURI));
+        SkipException fannedOut = Assert.expectThrows(SkipException.class,
+                () -> EnvironmentFanOut.run(targets, target -> target.get("/booking")));
+        Assert.assertTrue(fannedOut instanceof EnvironmentUnavailableException, "Unexpected skip: " + fannedOut);
+    }
+
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
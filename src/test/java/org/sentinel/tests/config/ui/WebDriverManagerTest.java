@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025 sentinel-tests
+ * All rights reserved.
+ */
+package org.sentinel.tests.config.ui;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandPayload;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.sentinel.tests.constants.Config;
+import org.sentinel.tests.utils.testng.ReadTestNG;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies that {@link WebDriverManager} launches the browsers of parallel threads concurrently
+ * and keeps the remote session id per thread, and that {@link BrowserContext} isolation runs the
+ * tests of a thread in tabs of one browser. Browsers are replaced by stubs that take
+ * {@link #LAUNCH_MILLIS} to start.
+ *
+ * @author <a href="https://github.com/swapnildamate">Swapnil Damate</a>
+ * @version 1.0
+ */
+public class WebDriverManagerTest {
+
+    private static final long LAUNCH_MILLIS = 1000;
+    private static final int THREADS = 4;
+
+    private String previousRunOn;
+
+    @BeforeClass
+    public void stubBrowsers() {
+        previousRunOn = ReadTestNG.getAllParameters().put(Config.RUN_ON, Config.RUN_ON_REMOTE);
+        WebDriverManager.setBrowserLauncher(SlowStubDriver::new);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreBrowsers() {
+        WebDriverManager.setBrowserLauncher(null);
+        if (previousRunOn == null) {
+            ReadTestNG.getAllParameters().remove(Config.RUN_ON);
+        } else {
+            ReadTestNG.getAllParameters().put(Config.RUN_ON, previousRunOn);
+        }
+    }
+
+    @Test
+    public void launchesBrowsersOfParallelThreadsConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String[]>> launches = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                launches.add(executor.submit(launchAndQuit(start)));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            HashSet<String> sessionIds = new HashSet<>();
+            for (Future<String[]> launch : launches) {
+                String[] ids = launch.get(30, TimeUnit.SECONDS);
+                Assert.assertEquals(ids[0], ids[1], "Thread sees the session id of its own browser.");
+                sessionIds.add(ids[0]);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            Assert.assertEquals(sessionIds.size(), THREADS, "Every thread launched its own browser.");
+            Assert.assertTrue(elapsedMillis < 2 * LAUNCH_MILLIS,
+                    String.format("%d browsers launched in %d ms, one takes %d ms.", THREADS, elapsedMillis, LAUNCH_MILLIS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void keepsSessionIdOfEachThreadAfterOtherThreadsLaunch() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            WebDriver driver = WebDriverManager.getDriverInstance();
+            String ownSessionId = WebDriverManager.getSessionId();
+            String otherSessionId = executor.submit(launchAndQuit(new CountDownLatch(0))).get(30, TimeUnit.SECONDS)[0];
+            WebDriverManager.quitDriver();
+
+            Assert.assertNotNull(driver);
+            Assert.assertNotEquals(otherSessionId, ownSessionId);
+            Assert.assertEquals(WebDriverManager.getSessionId(), ownSessionId, "Session id is not overwritten by another thread.");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void isolatesTestsOfThreadInTabsOfOneBrowser() {
+        ReadTestNG.getAllParameters().put(Config.BROWSER_ISOLATION, "tab");
+        WebDriverManager.setBrowserLauncher(TabStubDriver::new);
+        int launchesBefore = TabStubDriver.launches.get();
+        try {
+            WebDriverManager.getDriverInstance();
+            TabStubDriver browser = TabStubDriver.lastLaunched.get();
+            String firstSessionId = WebDriverManager.getSessionId();
+            boolean firstEnded = WebDriverManager.releaseDriver(true);
+            WebDriverManager.getDriverInstance();
+            String secondSessionId = WebDriverManager.getSessionId();
+            boolean secondEnded = WebDriverManager.releaseDriver(true);
+
+            Assert.assertEquals(TabStubDriver.launches.get() - launchesBefore, 1, "Both tests ran in one browser.");
+            Assert.assertFalse(firstEnded || secondEnded, "Browser stays open between tests.");
+            Assert.assertEquals(secondSessionId, firstSessionId);
+            Assert.assertEquals(browser.closed, List.of("tab-1", "tab-2"), "Each test ran in a tab of its own.");
+            Assert.assertEquals(browser.current, TabStubDriver.ANCHOR);
+
+            WebDriverManager.getDriverInstance();
+            Assert.assertTrue(WebDriverManager.releaseDriver(false), "Browser is quit after a WebDriver error.");
+            Assert.assertTrue(browser.quit);
+        } finally {
+            BrowserContext.shutdown();
+            ReadTestNG.getAllParameters().remove(Config.BROWSER_ISOLATION);
+            WebDriverManager.setBrowserLauncher(SlowStubDriver::new);
+        }
+    }
+
+    /**
+     * Launches a browser on the calling thread once started and returns the session id reported by
+     * {@link WebDriverManager#getSessionId()} together with the id of the browser itself.
+     */
+    private static Callable<String[]> launchAndQuit(CountDownLatch start) {
+        return () -> {
+            start.await();
+            WebDriverManager.getDriverInstance();
+            String reported = WebDriverManager.getSessionId();
+            String actual = SlowStubDriver.lastLaunched.get();
+            WebDriverManager.quitDriver();
+            return new String[]{reported, actual};
+        };
+    }
+
+    /**
+     * Remote driver stub that takes {@link #LAUNCH_MILLIS} to start and never contacts a grid.
+     */
+    private static class SlowStubDriver extends RemoteWebDriver {
+        private static final ThreadLocal<String> lastLaunched = new ThreadLocal<>();
+
+        SlowStubDriver() {
+            try {
+                Thread.sleep(LAUNCH_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String id = UUID.randomUUID().toString();
+            setSessionId(id);
+            lastLaunched.set(id);
+        }
+
+        @Override
+        public void quit() {
+            // Nothing to release
+        }
+    }
+
+    /**
+     * Remote driver stub that opens, switches and closes tabs without contacting a grid.
+     */
+    private static class TabStubDriver extends RemoteWebDriver {
+        private static final String ANCHOR = "anchor";
+        private static final AtomicInteger launches = new AtomicInteger();
+        private static final ThreadLocal<TabStubDriver> lastLaunched = new ThreadLocal<>();
+
+        private final List<String> handles = new ArrayList<>(List.of(ANCHOR));
+        private final List<String> closed = new ArrayList<>();
+        private String current = ANCHOR;
+        private int opened;
+        private boolean quit;
+
+        TabStubDriver() {
+            setSessionId(UUID.randomUUID().toString());
+            launches.incrementAndGet();
+            lastLaunched.set(this);
+        }
+
+        @Override
+        protected Response execute(CommandPayload payload) {
+            Response response = new Response(getSessionId());
+            switch (payload.getName()) {
+                case DriverCommand.SWITCH_TO_NEW_WINDOW -> {
+                    String handle = "tab-" + ++opened;
+                    handles.add(handle);
+                    response.setValue(Map.of("handle", handle, "type", "tab"));
+                }
+                case DriverCommand.SWITCH_TO_WINDOW -> current = (String) payload.getParameters().get("handle");
+                case DriverCommand.GET_CURRENT_WINDOW_HANDLE -> response.setValue(current);
+                case DriverCommand.GET_WINDOW_HANDLES -> response.setValue(new ArrayList<>(handles));
+                case DriverCommand.CLOSE -> {
+                    handles.remove(current);
+                    closed.add(current);
+                }
+                default -> {
+                    // Scripts and cookie commands have no effect
+                }
+            }
+            return response;
+        }
+
+        @Override
+        public void quit() {
+            quit = true;
+        }
+    }
+}